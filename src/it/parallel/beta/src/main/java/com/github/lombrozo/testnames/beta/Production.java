@@ -21,10 +21,14 @@
  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
  * SOFTWARE.
  */
-package com.github.lombrozo.testnames;
+package com.github.lombrozo.testnames.beta;
 
 public class Production {
     public static void main(String[] args) {
         System.out.println("Hello, World!");
     }
-}
\ No newline at end of file
+
+    public Beta beta() {
+        return new Beta();
+    }
+}
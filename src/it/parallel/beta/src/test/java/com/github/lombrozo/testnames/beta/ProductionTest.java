@@ -21,14 +21,23 @@
  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
  * SOFTWARE.
  */
-package com.github.lombrozo.testnames;
+package com.github.lombrozo.testnames.beta;
 
-import org.junit.jupiter.api.Test;
+import org.hamcrest.MatcherAssert;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 
 public class ProductionTest {
     @Test
     public void runsMain() {
         Assertions.assertDoesNotThrow(() -> Production.main(new String[0]), "All works fine");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void createsReadyBeta() {
+        MatcherAssert.assertThat(
+            "Beta has to be ready",
+            new Production().beta().ready()
+        );
+    }
+}
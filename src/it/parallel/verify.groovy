@@ -22,7 +22,9 @@
  * SOFTWARE.
  */
 String log = new File(basedir, 'build.log').text;
-assert log.contains("All tests are valid"): "Some tests are invalid"
+int modules = 6
+int valid = log.count("All tests are valid")
+assert valid == modules: "Expected $modules valid modules, but was $valid"
 String unexpected = '''
 [WARNING] *****************************************************************
 [WARNING] * Your build is requesting parallel execution, but this         *
@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Facts read by the rules of a law.
+ * The law is applied to a probe test class without suppressions, and each
+ * rule it builds declares the facts it reads. Rules suppressed for the
+ * entire project read nothing, so the engine can skip extraction of the
+ * facts that no enabled rule needs.
+ *
+ * @since 1.5
+ */
+final class Capabilities {
+
+    /**
+     * Facts needed to tell test classes and JUnit extensions apart.
+     */
+    private static final Set<Fact> ALWAYS = Collections.unmodifiableSet(
+        EnumSet.of(Fact.FILE_NAME, Fact.CLASS_HEADER, Fact.METHOD_NAMES)
+    );
+
+    /**
+     * The law.
+     */
+    private final Function<Suspect, Stream<Rule>> law;
+
+    /**
+     * Ctor.
+     * @param law The law which rules are applied to test classes.
+     */
+    Capabilities(final Function<Suspect, Stream<Rule>> law) {
+        this.law = law;
+    }
+
+    /**
+     * The depth of the analysis, the most expensive fact that enabled rules read.
+     * @return The depth.
+     */
+    Fact depth() {
+        return Collections.max(this.facts());
+    }
+
+    /**
+     * All the facts that enabled rules read.
+     * @return The facts.
+     */
+    Set<Fact> facts() {
+        final Set<Fact> res = EnumSet.copyOf(Capabilities.ALWAYS);
+        this.law.apply(new Suspect(new Project.Fake(), new TestClass.Fake()))
+            .map(Rule::facts)
+            .forEach(res::addAll);
+        return Collections.unmodifiableSet(res);
+    }
+}
@@ -23,14 +23,22 @@
  */
 package com.github.lombrozo.testnames;
 
+import com.github.lombrozo.testnames.rules.CaseChecks;
+import com.github.lombrozo.testnames.rules.ProductionIndex;
 import com.github.lombrozo.testnames.rules.RuleCorrectTestCases;
 import com.github.lombrozo.testnames.rules.RuleCorrectTestName;
 import com.github.lombrozo.testnames.rules.RuleEveryTestHasProductionClass;
 import com.github.lombrozo.testnames.rules.RuleInheritanceInTests;
 import com.github.lombrozo.testnames.rules.RuleOnlyTestMethods;
+import com.github.lombrozo.testnames.rules.RuleProfiled;
 import com.github.lombrozo.testnames.rules.RuleProhibitStaticFields;
 import com.github.lombrozo.testnames.rules.RuleSuppressed;
+import com.github.lombrozo.testnames.rules.Suppressions;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -42,6 +50,11 @@ import java.util.stream.Stream;
  */
 final class Cop {
 
+    /**
+     * Events for JDK Flight Recorder.
+     */
+    private static final Flight FLIGHT = new Flight();
+
     /**
      * The project to check.
      */
@@ -52,6 +65,11 @@ final class Cop {
      */
     private final Function<Suspect, Stream<Rule>> law;
 
+    /**
+     * The number of threads that check test classes.
+     */
+    private final int threads;
+
     /**
      * Ctor.
      * @param project The project to check.
@@ -66,7 +84,7 @@ final class Cop {
      * @param parameters Parameters for rules.
      */
     Cop(final Project proj, final Parameters parameters) {
-        this(proj, Cop.regular(parameters));
+        this(proj, Cop.regular(proj, parameters));
     }
 
     /**
@@ -77,22 +95,98 @@ final class Cop {
     Cop(
         final Project project,
         final Function<Suspect, Stream<Rule>> law
+    ) {
+        this(project, law, 1);
+    }
+
+    /**
+     * Primary ctor.
+     * @param project The project to check.
+     * @param law The law to check the project.
+     * @param threads The number of threads that check test classes.
+     */
+    Cop(
+        final Project project,
+        final Function<Suspect, Stream<Rule>> law,
+        final int threads
     ) {
         this.project = project;
         this.law = law;
+        this.threads = threads;
     }
 
     /**
      * Checks the project.
+     * Test classes are checked in a separate fork-join pool, each test class
+     * is a separate task. The order of complaints is the same as the order of
+     * test classes, regardless of the number of threads.
      * @return The complaints.
      */
     Collection<Complaint> inspection() {
-        return this.project.testClasses().stream()
+        if (this.threads < 1) {
+            throw new IllegalStateException(
+                String.format(
+                    "The number of threads must be positive, but was %d",
+                    this.threads
+                )
+            );
+        }
+        final ForkJoinPool pool = new ForkJoinPool(
+            this.threads,
+            new InheritingThreads(Thread.currentThread().getContextClassLoader()),
+            null,
+            false
+        );
+        try {
+            return pool.submit(this::complaints).get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The inspection was interrupted", ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new IllegalStateException("The inspection failed", ex.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Complaints of all test classes.
+     * Complaints are rendered to text right away, so they don't keep parsed
+     * test classes in memory after the check.
+     * The summary of the inspection is emitted as an event for JDK Flight
+     * Recorder.
+     * @return The complaints.
+     */
+    private Collection<Complaint> complaints() {
+        final Object flight = Cop.FLIGHT.inspecting();
+        final LongAdder classes = new LongAdder();
+        final Collection<Complaint> res = this.project.testClasses().parallelStream()
+            .peek(testClass -> classes.increment())
             .map(testClass -> new Suspect(this.project, testClass))
             .flatMap(this.law)
             .map(Rule::complaints)
             .flatMap(Collection::stream)
+            .map(Complaint::message)
+            .map(Complaint.Text::new)
             .collect(Collectors.toList());
+        Cop.FLIGHT.finished(classes.sum(), res.size(), this.threads, flight);
+        return res;
+    }
+
+    /**
+     * Law that applies all the laws in a single traversal.
+     * Each test class is parsed once and checked by the rules of all the laws,
+     * so an additional law costs only the time of its rules.
+     * @param laws The laws to apply.
+     * @return The composed law.
+     */
+    static Function<Suspect, Stream<Rule>> composed(
+        final List<Function<Suspect, Stream<Rule>>> laws
+    ) {
+        return suspect -> laws.stream().flatMap(law -> law.apply(suspect));
     }
 
     /**
@@ -101,26 +195,92 @@ final class Cop {
      *  features.
      */
     static Function<Suspect, Stream<Rule>> experimental() {
+        return Cop.experimental(Suppressions.NONE, new Profile.Silent());
+    }
+
+    /**
+     * Experimental law.
+     * @param global Rules suppressed for the entire project.
+     * @param profile The profile of the run.
+     * @return The experimental law which will be applied to projects that uses `experimental`
+     *  features.
+     */
+    static Function<Suspect, Stream<Rule>> experimental(
+        final Suppressions global,
+        final Profile profile
+    ) {
         return suspect -> Stream.of(
-            new RuleSuppressed(new RuleOnlyTestMethods(suspect.test()), suspect.test())
+            new RuleSuppressed(
+                new RuleProfiled(
+                    new RuleOnlyTestMethods(suspect.test()),
+                    profile,
+                    suspect.test().path()
+                ),
+                global.with(new Suppressions(suspect.test().suppressed()))
+            )
         );
     }
 
     /**
      * Regular law.
+     * @param project The project to check.
      * @param parameters Parameters for rules.
      * @return The regular law which will be applied to all projects.
      */
-    private static Function<Suspect, Stream<Rule>> regular(final Parameters parameters) {
-        return suspect -> Stream.of(
-            new RuleSuppressed(
-                new RuleEveryTestHasProductionClass(suspect.project(), suspect.test()),
-                suspect.test()
-            ),
-            new RuleSuppressed(new RuleProhibitStaticFields(suspect.test()), suspect.test()),
-            new RuleSuppressed(new RuleCorrectTestName(suspect.test()), suspect.test()),
-            new RuleSuppressed(new RuleInheritanceInTests(suspect.test()), suspect.test()),
-            new RuleSuppressed(new RuleCorrectTestCases(suspect.test(), parameters), suspect.test())
+    static Function<Suspect, Stream<Rule>> regular(
+        final Project project,
+        final Parameters parameters
+    ) {
+        return Cop.regular(project, parameters, Suppressions.NONE, new Profile.Silent());
+    }
+
+    /**
+     * Regular law.
+     * @param project The project to check.
+     * @param parameters Parameters for rules.
+     * @param global Rules suppressed for the entire project.
+     * @param profile The profile of the run.
+     * @return The regular law which will be applied to all projects.
+     */
+    static Function<Suspect, Stream<Rule>> regular(
+        final Project project,
+        final Parameters parameters,
+        final Suppressions global,
+        final Profile profile
+    ) {
+        return Cop.regular(
+            new ProductionIndex(project),
+            new CaseChecks(parameters, global, profile),
+            global,
+            profile
         );
     }
+
+    /**
+     * Regular law.
+     * Suppressed rules of a test class are computed once for all its rules.
+     * @param index The index of production classes shared by all the suspects.
+     * @param checks The checks of test cases shared by all the suspects.
+     * @param global Rules suppressed for the entire project.
+     * @param profile The profile of the run.
+     * @return The regular law which will be applied to all projects.
+     */
+    private static Function<Suspect, Stream<Rule>> regular(
+        final ProductionIndex index,
+        final CaseChecks checks,
+        final Suppressions global,
+        final Profile profile
+    ) {
+        return suspect -> {
+            final TestClass test = suspect.test();
+            final Suppressions hidden = global.with(new Suppressions(test.suppressed()));
+            return Stream.<Rule>of(
+                new RuleEveryTestHasProductionClass(index, test),
+                new RuleProhibitStaticFields(test),
+                new RuleCorrectTestName(test),
+                new RuleInheritanceInTests(test),
+                new RuleCorrectTestCases(test, checks)
+            ).map(rule -> new RuleSuppressed(new RuleProfiled(rule, profile, test.path()), hidden));
+        };
+    }
 }
@@ -0,0 +1,64 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+/**
+ * Fact about test sources that a rule reads.
+ * Facts are ordered by the cost of their extraction, so the greatest fact
+ * among the enabled rules is the depth of the analysis that a run needs.
+ *
+ * @since 1.5
+ */
+public enum Fact {
+
+    /**
+     * The name of the test file.
+     */
+    FILE_NAME,
+
+    /**
+     * The header of the test class: package, imports, parents and annotations.
+     */
+    CLASS_HEADER,
+
+    /**
+     * Names and annotations of methods of the test class.
+     */
+    METHOD_NAMES,
+
+    /**
+     * Fields of the test class.
+     */
+    FIELDS,
+
+    /**
+     * Statements and assertions of test methods.
+     */
+    METHOD_BODIES,
+
+    /**
+     * Resolved types of expressions in test methods.
+     */
+    RESOLVED_TYPES
+}
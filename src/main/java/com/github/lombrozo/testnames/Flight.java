@@ -0,0 +1,127 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+import java.nio.file.Path;
+
+/**
+ * Events for JDK Flight Recorder.
+ * This is the Java 8 version of the class, it doesn't emit anything.
+ * The jar of the plugin is a multi-release one, on Java 11 and newer the
+ * class is replaced with the version from {@code src/main/java11} that
+ * emits events to JDK Flight Recorder.
+ * Both versions must have the same public methods. A measurement starts
+ * with a method that returns a token and ends with a method that takes it.
+ *
+ * @since 1.5
+ */
+public final class Flight {
+
+    /**
+     * The token of all measurements.
+     */
+    private static final Object NOTHING = new Object();
+
+    /**
+     * Start parsing of a file.
+     * @return The token of the measurement.
+     */
+    public Object parsing() {
+        return Flight.NOTHING;
+    }
+
+    /**
+     * A source or a class file is parsed.
+     * @param file The parsed file.
+     * @param token The token from {@link #parsing()}.
+     */
+    public void parsed(final Path file, final Object token) {
+        // Events are emitted only on Java 11 and newer.
+    }
+
+    /**
+     * Start resolution of a type.
+     * @return The token of the measurement.
+     */
+    public Object resolving() {
+        return Flight.NOTHING;
+    }
+
+    /**
+     * Type of an expression is resolved.
+     * @param expression The expression, its text is recorded.
+     * @param token The token from {@link #resolving()}.
+     */
+    public void resolved(final Object expression, final Object token) {
+        // Events are emitted only on Java 11 and newer.
+    }
+
+    /**
+     * Start evaluation of a rule.
+     * @return The token of the measurement.
+     */
+    public Object evaluating() {
+        return Flight.NOTHING;
+    }
+
+    /**
+     * A rule is evaluated for a test class.
+     * @param rule The name of the rule.
+     * @param file The file of the test class.
+     * @param complaints The number of complaints.
+     * @param token The token from {@link #evaluating()}.
+     */
+    public void evaluated(
+        final String rule,
+        final Path file,
+        final int complaints,
+        final Object token
+    ) {
+        // Events are emitted only on Java 11 and newer.
+    }
+
+    /**
+     * Start inspection of a project.
+     * @return The token of the measurement.
+     */
+    public Object inspecting() {
+        return Flight.NOTHING;
+    }
+
+    /**
+     * The inspection of the project is finished.
+     * @param classes The number of checked test classes.
+     * @param complaints The number of complaints.
+     * @param threads The number of threads.
+     * @param token The token from {@link #inspecting()}.
+     */
+    public void finished(
+        final long classes,
+        final int complaints,
+        final int threads,
+        final Object token
+    ) {
+        // Events are emitted only on Java 11 and newer.
+    }
+}
@@ -0,0 +1,457 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.cactoos.scalar.Solid;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Persistent cache of validation results.
+ * The cache keeps a content hash of each test file together with the
+ * complaints this file produced during the previous run. As a predicate it
+ * accepts only files that have to be checked again; complaints of all the
+ * other files are replayed from the cache without parsing. The whole cache
+ * is invalidated when the fingerprint of the run changes, which covers the
+ * plugin version, the parameters, the names of production classes and the
+ * content of production sources, since rules read types of production
+ * methods. Test files aren't a part of the fingerprint: each of them is
+ * valid as long as its own hash is the same, so editing a test re-checks
+ * only this test.
+ *
+ * @since 1.5
+ */
+final class IncrementalCache implements Predicate<Path> {
+
+    /**
+     * The key of the fingerprint.
+     */
+    private static final String FINGERPRINT = "fingerprint";
+
+    /**
+     * The suffix of file hash keys.
+     */
+    private static final String HASH = ".hash";
+
+    /**
+     * The infix of complaint keys.
+     */
+    private static final String COMPLAINT = ".complaint.";
+
+    /**
+     * The file with cached results.
+     */
+    private final Path file;
+
+    /**
+     * Directories with test sources, in the order they are checked.
+     */
+    private final Collection<Path> tests;
+
+    /**
+     * The fingerprint of the current run.
+     */
+    private final Unchecked<String> fingerprint;
+
+    /**
+     * Results of the previous run.
+     */
+    private final Unchecked<Properties> previous;
+
+    /**
+     * Hashes of all files seen during the current run.
+     */
+    private final Map<String, String> hashes;
+
+    /**
+     * Complaints of the files checked during the current run.
+     */
+    private final Map<String, Collection<String>> recorded;
+
+    /**
+     * Files that didn't change since the previous run.
+     */
+    private final Set<String> unchanged;
+
+    /**
+     * Ctor.
+     * @param file The file with cached results.
+     * @param settings Settings of the run that affect complaints.
+     * @param project The project with production classes.
+     * @param production Directories with production sources.
+     * @param tests Directories with test sources, in the order they are checked.
+     * @checkstyle ParameterNumberCheck (8 lines)
+     */
+    IncrementalCache(
+        final Path file,
+        final String settings,
+        final Project project,
+        final Collection<Path> production,
+        final Collection<Path> tests
+    ) {
+        this(
+            file,
+            tests,
+            new Unchecked<>(
+                new Solid<>(() -> IncrementalCache.fingerprint(settings, project, production))
+            ),
+            new Unchecked<>(new Solid<>(() -> IncrementalCache.load(file)))
+        );
+    }
+
+    /**
+     * Primary ctor.
+     * @param file The file with cached results.
+     * @param tests Directories with test sources, in the order they are checked.
+     * @param fingerprint The fingerprint of the current run.
+     * @param previous Results of the previous run.
+     * @checkstyle ParameterNumberCheck (7 lines)
+     */
+    private IncrementalCache(
+        final Path file,
+        final Collection<Path> tests,
+        final Unchecked<String> fingerprint,
+        final Unchecked<Properties> previous
+    ) {
+        this.file = file;
+        this.tests = tests;
+        this.fingerprint = fingerprint;
+        this.previous = previous;
+        this.hashes = new ConcurrentHashMap<>(0);
+        this.recorded = new ConcurrentHashMap<>(0);
+        this.unchanged = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Whether the file has to be checked.
+     * @param path The path to the test file.
+     * @return True if the file changed since the previous run.
+     */
+    @Override
+    public boolean test(final Path path) {
+        final String key = IncrementalCache.key(path);
+        final String hash = IncrementalCache.hash(path);
+        this.hashes.put(key, hash);
+        final Properties prev = this.previous.value();
+        final boolean changed = !this.fingerprint.value().equals(
+            prev.getProperty(IncrementalCache.FINGERPRINT)
+        ) || !hash.equals(prev.getProperty(key.concat(IncrementalCache.HASH)));
+        if (!changed) {
+            this.unchanged.add(key);
+        }
+        return changed;
+    }
+
+    /**
+     * The law that records complaints of each test class into the cache.
+     * @param law The original law.
+     * @return The recording law.
+     */
+    Function<Suspect, Stream<Rule>> law(final Function<Suspect, Stream<Rule>> law) {
+        return suspect -> law.apply(suspect).map(
+            rule -> new Recorded(rule, IncrementalCache.key(suspect.test().path()))
+        );
+    }
+
+    /**
+     * Number of files that didn't change since the previous run.
+     * @return Number of unchanged files.
+     */
+    int skipped() {
+        return this.unchanged.size();
+    }
+
+    /**
+     * Complaints of all test files.
+     * Complaints of changed files are the recorded ones, complaints of
+     * unchanged files are replayed from the previous run. They are ordered
+     * as test files are walked, the same way as in a run without the cache.
+     * @return The complaints.
+     */
+    Collection<Complaint> complaints() {
+        final Set<String> keys = this.tests.stream()
+            .filter(Files::exists)
+            .map(IncrementalCache::files)
+            .flatMap(Collection::stream)
+            .map(IncrementalCache::key)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        keys.addAll(new TreeSet<>(this.recorded.keySet()));
+        return keys.stream()
+            .map(this::messages)
+            .flatMap(Collection::stream)
+            .map(Complaint.Text::new)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Save results of the current run.
+     */
+    void save() {
+        final Properties props = new Properties();
+        props.setProperty(IncrementalCache.FINGERPRINT, this.fingerprint.value());
+        for (final Map.Entry<String, String> entry : this.hashes.entrySet()) {
+            final String key = entry.getKey();
+            props.setProperty(key.concat(IncrementalCache.HASH), entry.getValue());
+            int index = 0;
+            for (final String complaint : this.messages(key)) {
+                props.setProperty(
+                    String.format("%s%s%d", key, IncrementalCache.COMPLAINT, index),
+                    complaint
+                );
+                index += 1;
+            }
+        }
+        try {
+            Files.createDirectories(this.file.toAbsolutePath().getParent());
+            try (OutputStream output = Files.newOutputStream(this.file)) {
+                props.store(output, "JTCOP incremental cache");
+            }
+        } catch (final IOException ex) {
+            throw new IllegalStateException(
+                String.format("Can't save incremental cache to %s", this.file),
+                ex
+            );
+        }
+    }
+
+    /**
+     * Complaints of the file in the current run.
+     * @param key The key of the file.
+     * @return Complaint messages.
+     */
+    private Collection<String> messages(final String key) {
+        final Collection<String> res;
+        if (this.unchanged.contains(key)) {
+            res = this.before(key);
+        } else {
+            res = this.recorded.getOrDefault(key, Collections.emptyList());
+        }
+        return res;
+    }
+
+    /**
+     * Complaints of the file from the previous run.
+     * @param key The key of the file.
+     * @return Complaint messages.
+     */
+    private List<String> before(final String key) {
+        final Properties prev = this.previous.value();
+        final List<String> result = new ArrayList<>(0);
+        String message = prev.getProperty(
+            String.format("%s%s%d", key, IncrementalCache.COMPLAINT, 0)
+        );
+        while (message != null) {
+            result.add(message);
+            message = prev.getProperty(
+                String.format("%s%s%d", key, IncrementalCache.COMPLAINT, result.size())
+            );
+        }
+        return result;
+    }
+
+    /**
+     * The key of the file in the cache.
+     * @param path The path to the file.
+     * @return The key.
+     */
+    private static String key(final Path path) {
+        return path.toAbsolutePath().normalize().toString();
+    }
+
+    /**
+     * Load results of the previous run.
+     * @param file The file with cached results.
+     * @return Cached results, empty if there were no previous runs.
+     */
+    private static Properties load(final Path file) {
+        final Properties props = new Properties();
+        if (Files.exists(file)) {
+            try (InputStream input = Files.newInputStream(file)) {
+                props.load(input);
+            } catch (final IOException ex) {
+                throw new IllegalStateException(
+                    String.format("Can't read incremental cache from %s", file),
+                    ex
+                );
+            }
+        }
+        return props;
+    }
+
+    /**
+     * The fingerprint of the run.
+     * @param settings Settings of the run that affect complaints.
+     * @param project The project with production classes.
+     * @param production Directories with production sources.
+     * @return The fingerprint.
+     */
+    private static String fingerprint(
+        final String settings,
+        final Project project,
+        final Collection<Path> production
+    ) {
+        final MessageDigest digest = IncrementalCache.digest();
+        digest.update(settings.getBytes(StandardCharsets.UTF_8));
+        project.productionClasses().stream()
+            .map(ProductionClass::name)
+            .sorted()
+            .forEach(name -> digest.update(name.getBytes(StandardCharsets.UTF_8)));
+        production.stream()
+            .filter(Files::exists)
+            .map(IncrementalCache::files)
+            .flatMap(Collection::stream)
+            .sorted()
+            .forEach(
+                path -> {
+                    digest.update(IncrementalCache.key(path).getBytes(StandardCharsets.UTF_8));
+                    digest.update(IncrementalCache.hash(path).getBytes(StandardCharsets.UTF_8));
+                }
+            );
+        return IncrementalCache.hex(digest.digest());
+    }
+
+    /**
+     * All files of the directory.
+     * @param dir The directory.
+     * @return Regular files in the directory and its subdirectories.
+     */
+    private static List<Path> files(final Path dir) {
+        try (Stream<Path> all = Files.walk(dir)) {
+            return all.filter(Files::isRegularFile).collect(Collectors.toList());
+        } catch (final IOException ex) {
+            throw new IllegalStateException(
+                String.format("Can't read sources from %s", dir),
+                ex
+            );
+        }
+    }
+
+    /**
+     * The content hash of the file.
+     * @param path The path to the file.
+     * @return The hash.
+     */
+    private static String hash(final Path path) {
+        try {
+            return IncrementalCache.hex(IncrementalCache.digest().digest(Files.readAllBytes(path)));
+        } catch (final IOException ex) {
+            throw new IllegalStateException(
+                String.format("Can't read file %s to compute its hash", path),
+                ex
+            );
+        }
+    }
+
+    /**
+     * SHA-256 digest.
+     * @return New digest.
+     */
+    private static MessageDigest digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 algorithm is not available", ex);
+        }
+    }
+
+    /**
+     * Hex representation of bytes.
+     * @param bytes The bytes.
+     * @return Hex string.
+     */
+    private static String hex(final byte[] bytes) {
+        return String.format("%064x", new BigInteger(1, bytes));
+    }
+
+    /**
+     * Rule that records its complaints into the cache.
+     *
+     * @since 1.5
+     */
+    private final class Recorded implements Rule {
+
+        /**
+         * The original rule.
+         */
+        private final Rule origin;
+
+        /**
+         * The key of the test file.
+         */
+        private final String key;
+
+        /**
+         * Ctor.
+         * @param origin The original rule.
+         * @param key The key of the test file.
+         */
+        Recorded(final Rule origin, final String key) {
+            this.origin = origin;
+            this.key = key;
+        }
+
+        @Override
+        public List<String> aliases() {
+            return this.origin.aliases();
+        }
+
+        @Override
+        public Set<Fact> facts() {
+            return this.origin.facts();
+        }
+
+        @Override
+        public Collection<Complaint> complaints() {
+            final Collection<Complaint> complaints = this.origin.complaints();
+            final Collection<String> messages = IncrementalCache.this.recorded.computeIfAbsent(
+                this.key, name -> new ConcurrentLinkedQueue<>()
+            );
+            complaints.stream().map(Complaint::message).forEach(messages::add);
+            return complaints;
+        }
+    }
+}
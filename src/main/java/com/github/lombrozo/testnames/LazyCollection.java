@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Collection that is evaluated lazily on each traversal.
+ * The collection doesn't keep its elements. Each call of {@link #stream()},
+ * {@link #parallelStream()} or {@link #iterator()} builds a new stream,
+ * so elements can be processed and dropped one by one, and the memory they
+ * take doesn't depend on the size of the collection.
+ * A parallel stream has its own source, because a stream that is made
+ * parallel after {@code flatMap} or {@link Stream#concat} over sequential
+ * streams is processed by a single thread.
+ *
+ * @param <T> Type of elements.
+ * @since 1.5
+ */
+public final class LazyCollection<T> extends AbstractCollection<T> {
+
+    /**
+     * The source of elements.
+     */
+    private final Supplier<? extends Stream<T>> source;
+
+    /**
+     * The source of elements for parallel processing.
+     */
+    private final Supplier<? extends Stream<T>> parallel;
+
+    /**
+     * Ctor.
+     * The source has to be splittable, for example, a stream of a list.
+     * @param source The source of elements.
+     */
+    public LazyCollection(final Supplier<? extends Stream<T>> source) {
+        this(source, () -> source.get().parallel());
+    }
+
+    /**
+     * Ctor.
+     * Elements are taken from the origin collection through the pipeline,
+     * so the parallel stream of the origin stays parallel.
+     * @param origin The origin collection.
+     * @param pipeline The pipeline applied to the streams of the origin.
+     * @param <S> Type of elements of the origin.
+     */
+    public <S> LazyCollection(
+        final Collection<S> origin,
+        final Function<? super Stream<S>, ? extends Stream<T>> pipeline
+    ) {
+        this(
+            () -> pipeline.apply(origin.stream()),
+            () -> pipeline.apply(origin.parallelStream())
+        );
+    }
+
+    /**
+     * Primary ctor.
+     * @param source The source of elements.
+     * @param parallel The source of elements for parallel processing.
+     */
+    public LazyCollection(
+        final Supplier<? extends Stream<T>> source,
+        final Supplier<? extends Stream<T>> parallel
+    ) {
+        super();
+        this.source = source;
+        this.parallel = parallel;
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return this.source.get();
+    }
+
+    @Override
+    public Stream<T> parallelStream() {
+        return this.parallel.get().parallel();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return this.source.get().iterator();
+    }
+
+    @Override
+    public int size() {
+        return (int) this.source.get().count();
+    }
+}
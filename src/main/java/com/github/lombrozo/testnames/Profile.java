@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+import java.nio.file.Path;
+
+/**
+ * Profile of a run.
+ * Collects the time spent in phases of the analysis and in rules.
+ * Measurements don't create objects, so they can be left in hot paths.
+ *
+ * @since 1.5
+ */
+public interface Profile {
+
+    /**
+     * Start a measurement.
+     * @return The start of the measurement.
+     */
+    long start();
+
+    /**
+     * Finish a measurement.
+     * @param phase The phase or the rule that was measured.
+     * @param start The start of the measurement.
+     */
+    void stop(String phase, long start);
+
+    /**
+     * Finish a measurement of a test file.
+     * The time is also added to the total time of the file.
+     * @param phase The phase or the rule that was measured.
+     * @param file The test file.
+     * @param start The start of the measurement.
+     */
+    void stop(String phase, Path file, long start);
+
+    /**
+     * Profile that doesn't measure anything.
+     *
+     * @since 1.5
+     */
+    final class Silent implements Profile {
+
+        @Override
+        public long start() {
+            return 0L;
+        }
+
+        @Override
+        public void stop(final String phase, final long start) {
+            // Nothing is measured.
+        }
+
+        @Override
+        public void stop(final String phase, final Path file, final long start) {
+            // Nothing is measured.
+        }
+    }
+}
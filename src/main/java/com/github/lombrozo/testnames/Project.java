@@ -23,10 +23,14 @@
  */
 package com.github.lombrozo.testnames;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.cactoos.scalar.Solid;
+import org.cactoos.scalar.Unchecked;
 
 /**
  * Project.
@@ -122,6 +126,9 @@ public interface Project {
 
     /**
      * Combined project.
+     * A parallel stream of test classes concatenates parallel streams of
+     * the projects, so test classes of each project are split between
+     * threads.
      *
      * @since 0.1.17
      */
@@ -158,10 +165,15 @@ public interface Project {
 
         @Override
         public Collection<TestClass> testClasses() {
-            return this.projects.stream()
-                .map(Project::testClasses)
-                .flatMap(Collection::stream)
-                .collect(Collectors.toList());
+            return new LazyCollection<>(
+                () -> this.projects.stream()
+                    .map(Project::testClasses)
+                    .flatMap(Collection::stream),
+                () -> this.projects.stream()
+                    .map(Project::testClasses)
+                    .map(Collection::parallelStream)
+                    .reduce(Stream.empty(), Stream::concat)
+            );
         }
     }
 
@@ -197,4 +209,67 @@ public interface Project {
             return Collections.emptyList();
         }
     }
+
+    /**
+     * Cached project.
+     * Takes a snapshot of production classes of the original project on the
+     * first call and returns the same unmodifiable collection after that, so
+     * several passes over the project don't walk the source tree again.
+     * Test classes are not cached: they hold parsed sources, so they are
+     * streamed from the original project and dropped right after the check.
+     *
+     * @since 1.5
+     */
+    final class Cached implements Project {
+
+        /**
+         * Original project.
+         */
+        private final Project original;
+
+        /**
+         * Cached production classes.
+         */
+        private final Unchecked<Collection<ProductionClass>> classes;
+
+        /**
+         * Constructor.
+         * @param original Original project.
+         */
+        public Cached(final Project original) {
+            this(
+                original,
+                new Unchecked<>(
+                    new Solid<>(
+                        () -> Collections.unmodifiableList(
+                            new ArrayList<>(original.productionClasses())
+                        )
+                    )
+                )
+            );
+        }
+
+        /**
+         * Primary constructor.
+         * @param original Original project.
+         * @param classes Cached production classes.
+         */
+        private Cached(
+            final Project original,
+            final Unchecked<Collection<ProductionClass>> classes
+        ) {
+            this.original = original;
+            this.classes = classes;
+        }
+
+        @Override
+        public Collection<ProductionClass> productionClasses() {
+            return this.classes.value();
+        }
+
+        @Override
+        public Collection<TestClass> testClasses() {
+            return this.original.testClasses();
+        }
+    }
 }
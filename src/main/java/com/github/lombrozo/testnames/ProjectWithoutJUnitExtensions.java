@@ -25,8 +25,6 @@
 package com.github.lombrozo.testnames;
 
 import java.util.Collection;
-import java.util.Collections;
-import java.util.stream.Collectors;
 
 /**
  * The project without JUnit extensions.
@@ -40,12 +38,27 @@ final class ProjectWithoutJUnitExtensions implements Project {
      */
     private final Project original;
 
+    /**
+     * The profile of the run.
+     */
+    private final Profile profile;
+
     /**
      * Constructor.
      * @param original Original project.
      */
     ProjectWithoutJUnitExtensions(final Project original) {
+        this(original, new Profile.Silent());
+    }
+
+    /**
+     * Constructor.
+     * @param original Original project.
+     * @param profile The profile of the run.
+     */
+    ProjectWithoutJUnitExtensions(final Project original, final Profile profile) {
         this.original = original;
+        this.profile = profile;
     }
 
     @Override
@@ -55,19 +68,22 @@ final class ProjectWithoutJUnitExtensions implements Project {
 
     @Override
     public Collection<TestClass> testClasses() {
-        return Collections.unmodifiableCollection(
-            this.original.testClasses().stream()
-                .filter(ProjectWithoutJUnitExtensions::isNotJUnitExtension)
-                .collect(Collectors.toList())
+        return new LazyCollection<>(
+            this.original.testClasses(),
+            stream -> stream.filter(this::isNotJUnitExtension)
         );
     }
 
     /**
-     * Is JUnit extension.
+     * Is not JUnit extension.
+     * Parents of the class are loaded for the check, so it is timed.
      * @param klass Test class.
-     * @return True if JUnit extension.
+     * @return True if not JUnit extension.
      */
-    private static boolean isNotJUnitExtension(final TestClass klass) {
-        return !klass.characteristics().isJUnitExtension();
+    private boolean isNotJUnitExtension(final TestClass klass) {
+        final long start = this.profile.start();
+        final boolean res = !klass.characteristics().isJUnitExtension();
+        this.profile.stop("junit extensions", klass.path(), start);
+        return res;
     }
 }
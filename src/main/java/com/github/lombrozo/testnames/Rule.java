@@ -25,7 +25,9 @@
 package com.github.lombrozo.testnames;
 
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * The rule for naming.
@@ -40,6 +42,17 @@ public interface Rule {
      */
     List<String> aliases();
 
+    /**
+     * Facts about test sources that the rule reads.
+     * Test sources are analyzed only as deep as enabled rules need. A rule
+     * that doesn't tell its facts reads all of them, so test sources are
+     * parsed and their types are resolved.
+     * @return The facts
+     */
+    default Set<Fact> facts() {
+        return EnumSet.allOf(Fact.class);
+    }
+
     /**
      * Collection of complaints that Rule can produce.
      * @return Collection of complaints
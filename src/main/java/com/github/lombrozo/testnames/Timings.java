@@ -0,0 +1,240 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Profile that records timings.
+ * Keeps the total time and the number of calls of each phase and rule,
+ * and the total time of each test file. Safe to use from many threads.
+ * Phases may be nested, for example, symbol resolution is a part of
+ * the rule that needs resolved types.
+ *
+ * @since 1.5
+ */
+public final class Timings implements Profile {
+
+    /**
+     * Nanoseconds in a millisecond.
+     */
+    private static final double MILLIS = 1_000_000.0;
+
+    /**
+     * Nanoseconds in a microsecond.
+     */
+    private static final double MICROS = 1_000.0;
+
+    /**
+     * The number of the slowest files to report.
+     */
+    private final int slowest;
+
+    /**
+     * Timers of phases and rules.
+     */
+    private final ConcurrentMap<String, Timer> phases;
+
+    /**
+     * Total time of test files.
+     */
+    private final ConcurrentMap<Path, LongAdder> files;
+
+    /**
+     * Ctor.
+     */
+    public Timings() {
+        this(10);
+    }
+
+    /**
+     * Primary ctor.
+     * @param slowest The number of the slowest files to report.
+     */
+    public Timings(final int slowest) {
+        this.slowest = slowest;
+        this.phases = new ConcurrentHashMap<>(0);
+        this.files = new ConcurrentHashMap<>(0);
+    }
+
+    @Override
+    public long start() {
+        return System.nanoTime();
+    }
+
+    @Override
+    public void stop(final String phase, final long start) {
+        this.phases.computeIfAbsent(phase, name -> new Timer()).add(System.nanoTime() - start);
+    }
+
+    @Override
+    public void stop(final String phase, final Path file, final long start) {
+        final long spent = System.nanoTime() - start;
+        this.phases.computeIfAbsent(phase, name -> new Timer()).add(spent);
+        this.files.computeIfAbsent(file, path -> new LongAdder()).add(spent);
+    }
+
+    /**
+     * Timings as a table for the log.
+     * @return Lines of the table.
+     */
+    public List<String> table() {
+        final List<String> res = new ArrayList<>(this.phases.size() + this.slowest + 3);
+        res.add(
+            String.format(
+                Locale.ROOT,
+                "%-44s %10s %12s %12s",
+                "Phase or rule",
+                "Calls",
+                "Total, ms",
+                "Mean, us"
+            )
+        );
+        for (final Map.Entry<String, Timer> entry : this.sorted()) {
+            final long calls = entry.getValue().calls.sum();
+            final long nanos = entry.getValue().nanos.sum();
+            res.add(
+                String.format(
+                    Locale.ROOT,
+                    "%-44s %10d %12.1f %12.1f",
+                    entry.getKey(),
+                    calls,
+                    nanos / Timings.MILLIS,
+                    nanos / Timings.MICROS / Math.max(calls, 1L)
+                )
+            );
+        }
+        res.add(String.format("The slowest %d test files:", this.slowest));
+        for (final Map.Entry<Path, Long> entry : this.slowestFiles()) {
+            res.add(
+                String.format(
+                    Locale.ROOT, "%12.1f ms %s", entry.getValue() / Timings.MILLIS, entry.getKey()
+                )
+            );
+        }
+        return res;
+    }
+
+    /**
+     * Timings as JSON.
+     * @return JSON document.
+     */
+    public String json() {
+        return String.format(
+            "{\n  \"phases\": [\n%s\n  ],\n  \"slowest\": [\n%s\n  ]\n}\n",
+            this.sorted().stream()
+                .map(
+                    entry -> String.format(
+                        "    {\"name\": \"%s\", \"calls\": %d, \"nanos\": %d}",
+                        Timings.escaped(entry.getKey()),
+                        entry.getValue().calls.sum(),
+                        entry.getValue().nanos.sum()
+                    )
+                )
+                .collect(Collectors.joining(",\n")),
+            this.slowestFiles().stream()
+                .map(
+                    entry -> String.format(
+                        "    {\"file\": \"%s\", \"nanos\": %d}",
+                        Timings.escaped(entry.getKey().toString()),
+                        entry.getValue()
+                    )
+                )
+                .collect(Collectors.joining(",\n"))
+        );
+    }
+
+    /**
+     * Phases and rules from the slowest to the fastest.
+     * @return Sorted timers.
+     */
+    private List<Map.Entry<String, Timer>> sorted() {
+        return this.phases.entrySet().stream()
+            .sorted(
+                Comparator.comparingLong(
+                    (Map.Entry<String, Timer> entry) -> entry.getValue().nanos.sum()
+                ).reversed()
+            )
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * The slowest test files.
+     * @return The files with their total time, from the slowest.
+     */
+    private List<Map.Entry<Path, Long>> slowestFiles() {
+        return this.files.entrySet().stream()
+            .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().sum()))
+            .entrySet()
+            .stream()
+            .sorted(Map.Entry.<Path, Long>comparingByValue().reversed())
+            .limit(this.slowest)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Escape the text for a JSON string.
+     * @param text The text.
+     * @return Escaped text.
+     */
+    private static String escaped(final String text) {
+        return text.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    /**
+     * Timer of a phase or a rule.
+     *
+     * @since 1.5
+     */
+    private static final class Timer {
+
+        /**
+         * Total time in nanoseconds.
+         */
+        private final LongAdder nanos = new LongAdder();
+
+        /**
+         * The number of calls.
+         */
+        private final LongAdder calls = new LongAdder();
+
+        /**
+         * Add a call.
+         * @param spent Time of the call in nanoseconds.
+         */
+        void add(final long spent) {
+            this.nanos.add(spent);
+            this.calls.increment();
+        }
+    }
+}
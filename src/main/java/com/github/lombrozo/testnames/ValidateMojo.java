@@ -27,13 +27,23 @@ package com.github.lombrozo.testnames;
 import com.github.lombrozo.testnames.bytecode.BytecodeProject;
 import com.github.lombrozo.testnames.complaints.ComplaintCompound;
 import com.github.lombrozo.testnames.javaparser.JavaParserProject;
+import com.github.lombrozo.testnames.javaparser.LoadedClasses;
+import com.github.lombrozo.testnames.rules.Suppressions;
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.maven.plugin.AbstractMojo;
@@ -121,27 +131,81 @@ public final class ValidateMojo extends AbstractMojo {
     @Parameter(defaultValue = "false")
     private boolean skip;
 
+    /**
+     * The number of threads that check test classes.
+     */
+    @Parameter(defaultValue = "1")
+    private int threads;
+
+    /**
+     * Check only test files changed since the previous run.
+     * Complaints of unchanged files are replayed from the cache.
+     */
+    @Parameter(defaultValue = "false")
+    private boolean incremental;
+
+    /**
+     * The file with results of the previous run.
+     * Used only in incremental mode.
+     */
+    @Parameter(defaultValue = "${project.build.directory}/jtcop/cache.properties")
+    private File cache;
+
+    /**
+     * The version of the plugin.
+     * Changes of the plugin version invalidate the incremental cache.
+     */
+    @Parameter(defaultValue = "${plugin.version}", readonly = true)
+    private String version;
+
+    /**
+     * Measure how long each phase and each rule takes.
+     * The timings are printed to the log and saved to the report.
+     */
+    @Parameter(defaultValue = "false")
+    private boolean profile;
+
+    /**
+     * The file with timings of the run.
+     * Used only when profiling is enabled.
+     */
+    @Parameter(defaultValue = "${project.build.directory}/jtcop/profile.json")
+    private File report;
+
     @Override
     public void execute() throws MojoFailureException {
         if (this.skip) {
             this.getLog().info(
                 "Validation by JTCOP is skipped because the configuration parameter 'skip' is set to 'true'."
             );
+        } else if (this.profile) {
+            final Timings timings = new Timings();
+            try {
+                this.validate(timings);
+            } finally {
+                this.save(timings);
+            }
         } else {
-            this.validate();
+            this.validate(new Profile.Silent());
         }
     }
 
-    private void validate() throws MojoFailureException {
+    /**
+     * Validate tests of the project.
+     * Classes loaded during the validation are cached only for this run.
+     * @param prof The profile of the run.
+     * @throws MojoFailureException If tests are invalid.
+     */
+    private void validate(final Profile prof) throws MojoFailureException {
         this.getLog().info("Validating tests...");
-        final ProjectWithoutJUnitExtensions proj = new ProjectWithoutJUnitExtensions(
-            new Project.Combined(this.projects())
-        );
-        final Collection<Complaint> complaints = new ArrayList<>(
-            new Cop(proj, new Parameters("maxNumberOfMocks", this.maxNumberOfMocks)).inspection()
-        );
-        if (this.experimental) {
-            complaints.addAll(new Cop(proj, Cop.experimental()).inspection());
+        final LoadedClasses classes = new LoadedClasses();
+        final Collection<Complaint> complaints;
+        if (this.incremental) {
+            complaints = this.incrementally(prof, classes);
+        } else {
+            complaints = this.inspection(
+                path -> true, UnaryOperator.identity(), prof, classes
+            );
         }
         if (!complaints.isEmpty() && this.failOnError) {
             throw new MojoFailureException(new ComplaintCompound(complaints).message());
@@ -153,19 +217,170 @@ public final class ValidateMojo extends AbstractMojo {
         }
     }
 
+    /**
+     * Print the timings and save them to the report.
+     * @param timings The timings of the run.
+     */
+    private void save(final Timings timings) {
+        timings.table().forEach(line -> this.getLog().info(line));
+        final Path path = this.report.toPath();
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            Files.write(path, timings.json().getBytes(StandardCharsets.UTF_8));
+            this.getLog().info(String.format("Timings are saved to %s", path));
+        } catch (final IOException exception) {
+            this.getLog().warn(
+                String.format("Can't save timings to %s", path),
+                exception
+            );
+        }
+    }
+
+    /**
+     * Check only changed test files and replay complaints of the others.
+     * The inspection records complaints into the cache, and the cache puts
+     * them together with the replayed ones in the order of test files.
+     * @param prof The profile of the run.
+     * @param classes Classes loaded during the run.
+     * @return All complaints.
+     */
+    private Collection<Complaint> incrementally(
+        final Profile prof,
+        final LoadedClasses classes
+    ) {
+        final IncrementalCache results = new IncrementalCache(
+            this.cache.toPath(),
+            String.format(
+                "%s;%s;%s;%d;%s",
+                this.version,
+                this.experimental,
+                this.ignoreGeneratedTests,
+                this.maxNumberOfMocks,
+                this.suppressed().stream().sorted().collect(Collectors.toList())
+            ),
+            new Project.Combined(
+                this.projects(path -> true, Fact.FILE_NAME, prof, classes)
+            ),
+            Arrays.asList(
+                this.sources.toPath(),
+                Paths.get(this.project.getCompileSourceRoots().get(0))
+            ),
+            Arrays.asList(
+                this.tests.toPath(),
+                Paths.get(this.project.getTestCompileSourceRoots().get(0))
+            )
+        );
+        this.inspection(results, results::law, prof, classes);
+        this.getLog().info(
+            String.format(
+                "%d unchanged test files are skipped, their complaints are taken from %s",
+                results.skipped(),
+                this.cache
+            )
+        );
+        final Collection<Complaint> complaints = results.complaints();
+        results.save();
+        return complaints;
+    }
+
+    /**
+     * Check test files of the project.
+     * Test classes are streamed: each of them is parsed, checked by all the
+     * laws and dropped. Test sources are analyzed only as deep as the enabled
+     * rules need, so they aren't parsed if the rules read only names.
+     * @param filter The filter of test files that have to be checked.
+     * @param law The decorator of laws.
+     * @param prof The profile of the run.
+     * @param classes Classes loaded during the run.
+     * @return The complaints.
+     * @checkstyle ParameterNumberCheck (7 lines)
+     */
+    private Collection<Complaint> inspection(
+        final Predicate<Path> filter,
+        final UnaryOperator<Function<Suspect, Stream<Rule>>> law,
+        final Profile prof,
+        final LoadedClasses classes
+    ) {
+        final Suppressions global = new Suppressions(this.suppressed());
+        final Fact depth = new Capabilities(
+            this.law(new Project.Fake(), global, new Profile.Silent())
+        ).depth();
+        this.getLog().debug(String.format("Test sources are analyzed up to %s", depth));
+        final Collection<Project> all = this.projects(filter, depth, prof, classes);
+        final Project proj = new Project.Cached(
+            new ProjectWithoutJUnitExtensions(new Project.Combined(all), prof)
+        );
+        final Collection<Complaint> res = new ArrayList<>(
+            new Cop(proj, law.apply(this.law(proj, global, prof)), this.threads).inspection()
+        );
+        this.getLog().debug(
+            String.format(
+                "%d symbols were resolved",
+                all.stream()
+                    .filter(JavaParserProject.class::isInstance)
+                    .map(JavaParserProject.class::cast)
+                    .mapToLong(JavaParserProject::resolutions)
+                    .sum()
+            )
+        );
+        return res;
+    }
+
+    /**
+     * All the laws that are applied to test classes.
+     * The same laws tell how deep test sources have to be analyzed.
+     * @param proj The project to check.
+     * @param global Rules suppressed for the entire project.
+     * @param prof The profile of the run.
+     * @return The composed law.
+     */
+    private Function<Suspect, Stream<Rule>> law(
+        final Project proj,
+        final Suppressions global,
+        final Profile prof
+    ) {
+        final List<Function<Suspect, Stream<Rule>>> laws = new ArrayList<>(2);
+        laws.add(
+            Cop.regular(
+                proj,
+                new Parameters("maxNumberOfMocks", this.maxNumberOfMocks),
+                global,
+                prof
+            )
+        );
+        if (this.experimental) {
+            laws.add(Cop.experimental(global, prof));
+        }
+        return Cop.composed(laws);
+    }
+
     /**
      * All projects to validate.
+     * Rules excluded for the entire project are folded into the global mask
+     * of suppressed rules, so they aren't passed to the projects.
+     * @param filter The filter of test files that have to be checked.
+     * @param depth The depth of the analysis of test sources.
+     * @param prof The profile of the run.
+     * @param classes Classes loaded during the run.
      * @return The projects
+     * @checkstyle ParameterNumberCheck (7 lines)
      */
-    private Collection<Project> projects() {
-        final Set<String> suppressed = this.suppressed();
+    private Collection<Project> projects(
+        final Predicate<Path> filter,
+        final Fact depth,
+        final Profile prof,
+        final LoadedClasses classes
+    ) {
         return Stream.concat(
-            this.generated(suppressed),
+            this.generated(filter, depth, prof, classes),
             Stream.of(
                 new JavaParserProject(
                     Paths.get(this.project.getCompileSourceRoots().get(0)),
                     Paths.get(this.project.getTestCompileSourceRoots().get(0)),
-                    suppressed
+                    filter,
+                    depth,
+                    prof,
+                    classes
                 )
             )
         ).collect(Collectors.toList());
@@ -185,16 +400,28 @@ public final class ValidateMojo extends AbstractMojo {
 
     /**
      * The generated projects.
-     * @param suppressed The suppressed rules
+     * @param filter The filter of test files that have to be checked.
+     * @param depth The depth of the analysis of test sources.
+     * @param prof The profile of the run.
+     * @param classes Classes loaded during the run.
      * @return The generated projects
+     * @checkstyle ParameterNumberCheck (7 lines)
      */
-    private Stream<Project> generated(final Set<String> suppressed) {
+    private Stream<Project> generated(
+        final Predicate<Path> filter,
+        final Fact depth,
+        final Profile prof,
+        final LoadedClasses classes
+    ) {
         return Stream.of(
             new BytecodeProject(this.sources, this.tests),
             new JavaParserProject(
                 this.sources.toPath(),
                 this.tests.toPath(),
-                suppressed
+                filter,
+                depth,
+                prof,
+                classes
             )
         ).map(this::generated);
     }
@@ -23,12 +23,15 @@
  */
 package com.github.lombrozo.testnames.bytecode;
 
+import com.github.lombrozo.testnames.Flight;
 import com.github.lombrozo.testnames.ProductionClass;
+import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
-import java.nio.file.Files;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
-import javassist.ClassPool;
+import java.nio.file.StandardOpenOption;
 import javassist.CtClass;
 import javassist.bytecode.ClassFile;
 
@@ -39,17 +42,46 @@ import javassist.bytecode.ClassFile;
  */
 final class BytecodeClass {
 
+    /**
+     * Events for JDK Flight Recorder.
+     */
+    private static final Flight FLIGHT = new Flight();
+
+    /**
+     * The largest size of a reused buffer.
+     */
+    private static final int REUSED = 64 * 1024;
+
+    /**
+     * Reusable buffers of all threads.
+     * Class files are read into the buffer of the current thread and their
+     * bytes are not used after parsing, so one buffer per thread is enough.
+     * A buffer grows up to {@link #REUSED} bytes, larger class files are read
+     * into one-off buffers, so a single huge class doesn't stay in memory of
+     * a thread till the end of the build.
+     */
+    private static final ThreadLocal<ByteBuffer> BUFFERS = ThreadLocal.withInitial(
+        () -> ByteBuffer.allocate(8 * 1024)
+    );
+
     /**
      * Path to class file.
      */
     private final Path path;
 
+    /**
+     * Class pool of the project.
+     */
+    private final ScopedPool pool;
+
     /**
      * Constructor.
      * @param bytecode Path to class file.
+     * @param pool Class pool of the project.
      */
-    BytecodeClass(final Path bytecode) {
+    BytecodeClass(final Path bytecode, final ScopedPool pool) {
         this.path = bytecode;
+        this.pool = pool;
     }
 
     /**
@@ -70,10 +102,12 @@ final class BytecodeClass {
 
     /**
      * Convert to production class.
+     * Production classes need only names, so only the name is read from
+     * the class file, without adding the class to the pool.
      * @return Production class.
      */
     ProductionClass toProductionClass() {
-        return new BytecodeProductionClass(this.parse());
+        return new BytecodeProductionClass(new ClassName(this.bytes()).simple());
     }
 
     /**
@@ -81,15 +115,18 @@ final class BytecodeClass {
      * @return Class.
      */
     private CtClass parse() {
+        final Object flight = BytecodeClass.FLIGHT.parsing();
+        final ByteBuffer buffer = this.bytes();
         try {
-            return ClassPool.getDefault()
-                .makeClass(
-                    new ClassFile(
-                        new DataInputStream(
-                            Files.newInputStream(this.path.toFile().toPath())
-                        )
+            final CtClass res = this.pool.makeClass(
+                new ClassFile(
+                    new DataInputStream(
+                        new ByteArrayInputStream(buffer.array(), 0, buffer.limit())
                     )
-                );
+                )
+            );
+            BytecodeClass.FLIGHT.parsed(this.path, flight);
+            return res;
         } catch (final IOException ex) {
             throw new IllegalStateException(
                 String.format("Can't parse class %s", this.path),
@@ -97,4 +134,37 @@ final class BytecodeClass {
             );
         }
     }
+
+    /**
+     * Read the whole class file into the buffer of the current thread.
+     * @return Buffer with the bytes of the class file.
+     */
+    private ByteBuffer bytes() {
+        try (FileChannel channel = FileChannel.open(this.path, StandardOpenOption.READ)) {
+            final int size = (int) channel.size();
+            ByteBuffer buffer;
+            if (size > BytecodeClass.REUSED) {
+                buffer = ByteBuffer.allocate(size);
+            } else {
+                buffer = BytecodeClass.BUFFERS.get();
+                if (buffer.capacity() < size) {
+                    buffer = ByteBuffer.allocate(size);
+                    BytecodeClass.BUFFERS.set(buffer);
+                }
+            }
+            buffer.clear();
+            buffer.limit(size);
+            int read = 0;
+            while (buffer.hasRemaining() && read >= 0) {
+                read = channel.read(buffer);
+            }
+            buffer.flip();
+            return buffer;
+        } catch (final IOException ex) {
+            throw new IllegalStateException(
+                String.format("Can't read class %s", this.path),
+                ex
+            );
+        }
+    }
 }
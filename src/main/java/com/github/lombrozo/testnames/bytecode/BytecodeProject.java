@@ -32,6 +32,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -43,6 +44,11 @@ import java.util.stream.Stream;
  */
 public final class BytecodeProject implements Project {
 
+    /**
+     * Logger.
+     */
+    private static final Logger LOG = Logger.getLogger(BytecodeProject.class.getName());
+
     /**
      * Production classes path.
      */
@@ -53,6 +59,11 @@ public final class BytecodeProject implements Project {
      */
     private final Path tests;
 
+    /**
+     * Class pool of the project.
+     */
+    private final ScopedPool pool;
+
     /**
      * Constructor.
      * @param classes Production classes path.
@@ -70,9 +81,24 @@ public final class BytecodeProject implements Project {
     public BytecodeProject(
         final Path classes,
         final Path tests
+    ) {
+        this(classes, tests, new ScopedPool());
+    }
+
+    /**
+     * Primary constructor.
+     * @param classes Production classes path.
+     * @param tests Test classes path.
+     * @param pool Class pool of the project.
+     */
+    private BytecodeProject(
+        final Path classes,
+        final Path tests,
+        final ScopedPool pool
     ) {
         this.classes = classes;
         this.tests = tests;
+        this.pool = pool;
     }
 
     @Override
@@ -80,7 +106,7 @@ public final class BytecodeProject implements Project {
         final Collection<ProductionClass> res;
         if (Files.exists(this.classes)) {
             try (Stream<Path> stream = Files.walk(this.classes)) {
-                res = stream.map(BytecodeClass::new)
+                res = stream.map(path -> new BytecodeClass(path, this.pool))
                     .filter(BytecodeClass::isClass)
                     .map(BytecodeClass::toProductionClass)
                     .collect(Collectors.toList());
@@ -93,6 +119,7 @@ public final class BytecodeProject implements Project {
         } else {
             res = Collections.emptyList();
         }
+        this.logSize();
         return res;
     }
 
@@ -101,7 +128,7 @@ public final class BytecodeProject implements Project {
         final Collection<TestClass> result;
         if (Files.exists(this.tests)) {
             try (Stream<Path> stream = Files.walk(this.tests)) {
-                result = stream.map(BytecodeClass::new)
+                result = stream.map(path -> new BytecodeClass(path, this.pool))
                     .filter(BytecodeClass::isClass)
                     .map(BytecodeClass::toTest)
                     .collect(Collectors.toList());
@@ -114,6 +141,20 @@ public final class BytecodeProject implements Project {
         } else {
             result = Collections.emptyList();
         }
+        this.logSize();
         return result;
     }
+
+    /**
+     * Log the size of the class pool.
+     */
+    private void logSize() {
+        BytecodeProject.LOG.fine(
+            () -> String.format(
+                "Class pool of bytecode project %s contains %d classes",
+                this.classes,
+                this.pool.size()
+            )
+        );
+    }
 }
@@ -0,0 +1,160 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.bytecode;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Name of the class read directly from a class file.
+ * The reader doesn't build any model of the class: it skips constant pool
+ * entries until the {@code this_class} index and decodes only the single
+ * UTF-8 entry with the class name. It is much cheaper than a full parsing
+ * when only the name is needed, as for production classes.
+ *
+ * @since 1.5
+ */
+final class ClassName {
+
+    /**
+     * Magic number of class files.
+     */
+    private static final int MAGIC = 0xCAFEBABE;
+
+    /**
+     * Bytes of the class file.
+     */
+    private final ByteBuffer bytes;
+
+    /**
+     * Ctor.
+     * @param bytes Bytes of the class file.
+     */
+    ClassName(final ByteBuffer bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * Simple name of the class.
+     * Nested classes keep the name of the outer class, the same way as
+     * {@link javassist.CtClass#getSimpleName()} does.
+     * @return Simple name.
+     */
+    String simple() {
+        final String binary = this.binary();
+        return binary.substring(binary.lastIndexOf('/') + 1);
+    }
+
+    /**
+     * Binary name of the class, like {@code com/example/Foo$Bar}.
+     * @return Binary name.
+     */
+    String binary() {
+        final ByteBuffer buffer = this.bytes.duplicate();
+        if (buffer.getInt(0) != ClassName.MAGIC) {
+            throw new IllegalStateException("The bytes are not a class file");
+        }
+        final int count = Short.toUnsignedInt(buffer.getShort(8));
+        final int[] offsets = new int[count];
+        int pos = 10;
+        for (int index = 1; index < count; ++index) {
+            offsets[index] = pos;
+            final int tag = buffer.get(pos);
+            pos += ClassName.size(buffer, pos, tag);
+            if (tag == 5 || tag == 6) {
+                ++index;
+            }
+        }
+        final int klass = Short.toUnsignedInt(buffer.getShort(pos + 2));
+        final int name = Short.toUnsignedInt(buffer.getShort(offsets[klass] + 1));
+        return ClassName.utf(buffer, offsets[name]);
+    }
+
+    /**
+     * Size of the constant pool entry, including its tag.
+     * @param buffer Bytes of the class file.
+     * @param pos Position of the entry.
+     * @param tag Tag of the entry.
+     * @return Size in bytes.
+     * @checkstyle CyclomaticComplexityCheck (50 lines)
+     */
+    @SuppressWarnings("PMD.CyclomaticComplexity")
+    private static int size(final ByteBuffer buffer, final int pos, final int tag) {
+        final int size;
+        switch (tag) {
+            case 1:
+                size = 3 + Short.toUnsignedInt(buffer.getShort(pos + 1));
+                break;
+            case 7:
+            case 8:
+            case 16:
+            case 19:
+            case 20:
+                size = 3;
+                break;
+            case 15:
+                size = 4;
+                break;
+            case 3:
+            case 4:
+            case 9:
+            case 10:
+            case 11:
+            case 12:
+            case 17:
+            case 18:
+                size = 5;
+                break;
+            case 5:
+            case 6:
+                size = 9;
+                break;
+            default:
+                throw new IllegalStateException(
+                    String.format("Unknown constant pool tag %d at position %d", tag, pos)
+                );
+        }
+        return size;
+    }
+
+    /**
+     * Decode modified UTF-8 constant pool entry.
+     * @param buffer Bytes of the class file.
+     * @param pos Position of the entry.
+     * @return Decoded string.
+     */
+    private static String utf(final ByteBuffer buffer, final int pos) {
+        final byte[] entry = new byte[2 + Short.toUnsignedInt(buffer.getShort(pos + 1))];
+        for (int idx = 0; idx < entry.length; ++idx) {
+            entry[idx] = buffer.get(pos + 1 + idx);
+        }
+        try {
+            return new DataInputStream(new ByteArrayInputStream(entry)).readUTF();
+        } catch (final IOException ex) {
+            throw new IllegalStateException("Can't decode the name of the class", ex);
+        }
+    }
+}
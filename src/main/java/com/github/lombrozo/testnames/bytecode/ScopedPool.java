@@ -0,0 +1,54 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.bytecode;
+
+import javassist.ClassPool;
+
+/**
+ * Class pool scoped to a single project.
+ * Unlike {@link ClassPool#getDefault()}, the pool is not shared between
+ * projects and threads of a parallel build. It is released together with
+ * the project, so a long-living Maven daemon doesn't accumulate classes
+ * of previous builds.
+ *
+ * @since 1.5
+ */
+final class ScopedPool extends ClassPool {
+
+    /**
+     * Ctor.
+     * The pool searches classes on the class path of the current thread.
+     */
+    ScopedPool() {
+        super(true);
+    }
+
+    /**
+     * Number of classes in the pool.
+     * @return Number of classes.
+     */
+    int size() {
+        return this.classes.size();
+    }
+}
@@ -31,6 +31,7 @@ import lombok.ToString;
 
 /**
  * The complaint with link to the rule description.
+ * The link is built only when the message is rendered.
  *
  * @since 0.1.15
  */
@@ -54,9 +55,9 @@ public final class ComplaintLinked implements Complaint {
     private final String rule;
 
     /**
-     * The link to the rule description.
+     * The document name of the rule description in the default repo.
      */
-    private final URL link;
+    private final String document;
 
     /**
      * Constructor.
@@ -72,7 +73,7 @@ public final class ComplaintLinked implements Complaint {
         final Class<?> rule,
         final String document
     ) {
-        this(complaint, suggestion, rule.getSimpleName(), ComplaintLinked.url(document));
+        this(complaint, suggestion, rule.getSimpleName(), document);
     }
 
     /**
@@ -80,19 +81,19 @@ public final class ComplaintLinked implements Complaint {
      * @param complaint The complaint message.
      * @param suggestion The suggestion how to solve the problem
      * @param rule The rule name
-     * @param link The link to the rule description
+     * @param document The document name to the rule description in the default repo.
      * @checkstyle ParameterNumberCheck (10 lines)
      */
     private ComplaintLinked(
         final String complaint,
         final String suggestion,
         final String rule,
-        final URL link
+        final String document
     ) {
         this.complaint = complaint;
         this.suggestion = suggestion;
         this.rule = rule;
-        this.link = link;
+        this.document = document;
     }
 
     @Override
@@ -104,7 +105,7 @@ public final class ComplaintLinked implements Complaint {
                 this.suggestion,
                 this.rule,
                 this.rule,
-                this.link
+                ComplaintLinked.url(this.document)
             )
         ).message();
     }
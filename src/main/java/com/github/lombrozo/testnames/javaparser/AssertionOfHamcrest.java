@@ -74,8 +74,7 @@ public final class AssertionOfHamcrest implements ParsedAssertion {
             result = new StingExpression(first.get()).asString();
         } else if (arguments.size() == 2 && first.isPresent()) {
             final Optional<Expression> last = arguments.getLast();
-            if (last.isPresent() && "boolean"
-                .equals(last.get().calculateResolvedType().describe())) {
+            if (last.isPresent() && new BooleanExpression(last.get()).isBoolean()) {
                 result = new StingExpression(first.get()).asString();
             } else {
                 result = Optional.empty();
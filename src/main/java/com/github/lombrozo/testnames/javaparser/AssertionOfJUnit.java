@@ -29,9 +29,12 @@ import com.github.javaparser.ast.expr.MethodCallExpr;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.Assertions;
@@ -46,7 +49,21 @@ final class AssertionOfJUnit implements ParsedAssertion {
     /**
      * Special assertions that we consider as assertions with messages.
      */
-    private static final String[] SPECIAL = {"assertAll", "fail"};
+    private static final Set<String> SPECIAL = Collections.unmodifiableSet(
+        new HashSet<>(Arrays.asList("assertAll", "fail"))
+    );
+
+    /**
+     * All JUnit assertions.
+     * The key is the method name, the value is the minimum number of arguments.
+     * The table is built only once, since reflection over all the methods of
+     * {@link Assertions} is too expensive to repeat for each method call.
+     * Only JUnit 5 assertions are here: JUnit 4, AssertJ and Truth aren't
+     * dependencies of the plugin, and their messages are placed differently.
+     */
+    private static final Map<String, Integer> JUNIT = Collections.unmodifiableMap(
+        AssertionOfJUnit.allowedJUnitNames()
+    );
 
     /**
      * The `assert` regex.
@@ -70,7 +87,7 @@ final class AssertionOfJUnit implements ParsedAssertion {
      * @param method The method call.
      */
     AssertionOfJUnit(final MethodCallExpr method) {
-        this(method, AssertionOfJUnit.allowedJUnitNames());
+        this(method, AssertionOfJUnit.JUNIT);
     }
 
     /**
@@ -86,7 +103,7 @@ final class AssertionOfJUnit implements ParsedAssertion {
 
     @Override
     public boolean isAssertion() {
-        return this.allowed.containsKey(this.call.getName().toString());
+        return this.allowed.containsKey(this.call.getNameAsString());
     }
 
     @Override
@@ -94,8 +111,9 @@ final class AssertionOfJUnit implements ParsedAssertion {
         final Optional<String> result;
         final NodeList<Expression> args = this.call.getArguments();
         final Optional<Expression> last = args.getLast();
-        final Integer min = this.allowed.get(this.call.getName().toString());
-        if (Arrays.asList(AssertionOfJUnit.SPECIAL).contains(this.call.getName().toString())) {
+        final String name = this.call.getNameAsString();
+        final Integer min = this.allowed.get(name);
+        if (AssertionOfJUnit.SPECIAL.contains(name)) {
             result = new UnknownMessage().message();
         } else if (min < args.size() && last.isPresent()) {
             result = new StingExpression(last.get()).asString();
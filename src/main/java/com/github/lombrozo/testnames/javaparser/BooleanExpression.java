@@ -0,0 +1,371 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.DataKey;
+import com.github.javaparser.ast.ImportDeclaration;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.expr.BinaryExpr;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.LambdaExpr;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.PatternExpr;
+import com.github.javaparser.ast.expr.UnaryExpr;
+import com.github.javaparser.ast.nodeTypes.NodeWithStatements;
+import com.github.javaparser.ast.stmt.BlockStmt;
+import com.github.javaparser.ast.stmt.CatchClause;
+import com.github.javaparser.ast.stmt.ForEachStmt;
+import com.github.javaparser.ast.stmt.ForStmt;
+import com.github.javaparser.ast.stmt.Statement;
+import com.github.javaparser.ast.stmt.SwitchEntry;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Expression that might have the primitive boolean type.
+ * The type of obvious expressions is recognized syntactically, because
+ * type resolution is the most expensive part of the check.
+ * Types of other expressions are resolved once and kept in the compilation
+ * unit, so identical expressions of the same scope aren't resolved twice.
+ *
+ * @since 1.5
+ */
+final class BooleanExpression {
+
+    /**
+     * The key of resolved types in a compilation unit.
+     */
+    private static final DataKey<Map<String, Boolean>> RESOLVED =
+        new DataKey<Map<String, Boolean>>() {
+        };
+
+    /**
+     * Binary operators that always produce boolean values.
+     */
+    private static final Set<BinaryExpr.Operator> BOOLEAN = Collections.unmodifiableSet(
+        EnumSet.of(
+            BinaryExpr.Operator.EQUALS,
+            BinaryExpr.Operator.NOT_EQUALS,
+            BinaryExpr.Operator.LESS,
+            BinaryExpr.Operator.GREATER,
+            BinaryExpr.Operator.LESS_EQUALS,
+            BinaryExpr.Operator.GREATER_EQUALS,
+            BinaryExpr.Operator.AND,
+            BinaryExpr.Operator.OR
+        )
+    );
+
+    /**
+     * Factory methods of Hamcrest matchers.
+     */
+    private static final Set<String> MATCHERS = Collections.unmodifiableSet(
+        new HashSet<>(
+            Arrays.asList(
+                "allOf", "anyOf", "anything", "closeTo", "contains", "containsInAnyOrder",
+                "containsString", "empty", "emptyArray", "emptyIterable", "emptyString",
+                "endsWith", "equalTo", "everyItem", "greaterThan", "greaterThanOrEqualTo",
+                "hasEntry", "hasItem", "hasItems", "hasKey", "hasSize", "hasToString",
+                "hasValue", "instanceOf", "is", "isA", "lessThan", "lessThanOrEqualTo",
+                "not", "notNullValue", "nullValue", "sameInstance", "startsWith"
+            )
+        )
+    );
+
+    /**
+     * The package of Hamcrest.
+     */
+    private static final String HAMCREST = "org.hamcrest.";
+
+    /**
+     * Classes with factory methods of Hamcrest matchers.
+     */
+    private static final Set<String> FACTORIES = Collections.unmodifiableSet(
+        new HashSet<>(
+            Arrays.asList(
+                "Matchers", "CoreMatchers", "org.hamcrest.Matchers", "org.hamcrest.CoreMatchers"
+            )
+        )
+    );
+
+    /**
+     * The expression.
+     */
+    private final Expression expr;
+
+    /**
+     * Ctor.
+     * @param expression The expression.
+     */
+    BooleanExpression(final Expression expression) {
+        this.expr = expression;
+    }
+
+    /**
+     * Is the type of the expression primitive boolean.
+     * @return True if it is.
+     */
+    boolean isBoolean() {
+        final Optional<Boolean> obvious = BooleanExpression.obvious(this.expr);
+        final boolean result;
+        if (obvious.isPresent()) {
+            result = obvious.get();
+        } else {
+            result = this.resolved();
+        }
+        return result;
+    }
+
+    /**
+     * Resolve the type of the expression or take it from the compilation unit.
+     * @return True if the type is primitive boolean.
+     */
+    private boolean resolved() {
+        final Optional<CompilationUnit> unit = this.expr.findCompilationUnit();
+        final boolean result;
+        if (unit.isPresent()) {
+            result = BooleanExpression.memo(unit.get()).computeIfAbsent(
+                this.key(),
+                key -> this.resolve()
+            );
+        } else {
+            result = this.resolve();
+        }
+        return result;
+    }
+
+    /**
+     * Resolve the type of the expression.
+     * @return True if the type is primitive boolean.
+     */
+    private boolean resolve() {
+        return "boolean".equals(this.expr.calculateResolvedType().describe());
+    }
+
+    /**
+     * The key of the expression in the compilation unit.
+     * The same text might refer to different variables in different scopes,
+     * so the key includes the range of the innermost block or lambda and the
+     * number of declarations made in it before the expression. Inside one
+     * key, names of the expression refer to the same declarations.
+     * Expressions outside of blocks and lambdas are keyed by their own range.
+     * @return The key.
+     */
+    private String key() {
+        Node child = this.expr;
+        Optional<Node> parent = child.getParentNode();
+        while (parent.isPresent() && !BooleanExpression.isScope(parent.get())) {
+            child = parent.get();
+            parent = child.getParentNode();
+        }
+        final String res;
+        if (parent.isPresent()) {
+            res = String.format(
+                "%s#%d#%s",
+                parent.get().getRange().map(Object::toString).orElse(""),
+                BooleanExpression.declarations(parent.get(), child),
+                this.expr
+            );
+        } else {
+            res = String.format(
+                "%s#%s",
+                this.expr.getRange().map(Object::toString).orElse(""),
+                this.expr
+            );
+        }
+        return res;
+    }
+
+    /**
+     * Is the node a scope of local variables.
+     * @param node The node.
+     * @return True if it is.
+     */
+    private static boolean isScope(final Node node) {
+        return node instanceof BlockStmt
+            || node instanceof LambdaExpr
+            || node instanceof SwitchEntry
+            || node instanceof ForStmt
+            || node instanceof ForEachStmt
+            || node instanceof CatchClause;
+    }
+
+    /**
+     * The number of declarations in the scope before the statement.
+     * @param scope The scope.
+     * @param statement The statement of the scope.
+     * @return The number of statements that declare variables or classes.
+     */
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    private static int declarations(final Node scope, final Node statement) {
+        int res = 0;
+        if (scope instanceof NodeWithStatements) {
+            for (final Statement stmt : ((NodeWithStatements<?>) scope).getStatements()) {
+                if (stmt == statement) {
+                    break;
+                }
+                if (BooleanExpression.declares(stmt)) {
+                    res += 1;
+                }
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Does the statement declare names visible after it.
+     * @param stmt The statement.
+     * @return True if it declares local variables, classes or pattern variables.
+     */
+    private static boolean declares(final Statement stmt) {
+        return stmt.isLocalClassDeclarationStmt()
+            || stmt.isLocalRecordDeclarationStmt()
+            || stmt.isExpressionStmt()
+            && stmt.asExpressionStmt().getExpression().isVariableDeclarationExpr()
+            || stmt.findFirst(PatternExpr.class).isPresent();
+    }
+
+    /**
+     * Resolved types of the compilation unit.
+     * @param unit The compilation unit.
+     * @return Resolved types by their keys.
+     */
+    private static Map<String, Boolean> memo(final CompilationUnit unit) {
+        synchronized (unit) {
+            if (!unit.containsData(BooleanExpression.RESOLVED)) {
+                unit.setData(BooleanExpression.RESOLVED, new ConcurrentHashMap<>(0));
+            }
+            return unit.getData(BooleanExpression.RESOLVED);
+        }
+    }
+
+    /**
+     * Recognize the type of the expression syntactically.
+     * @param expression The expression.
+     * @return True or false if the type is obvious, empty otherwise.
+     */
+    private static Optional<Boolean> obvious(final Expression expression) {
+        final Optional<Boolean> result;
+        if (expression.isEnclosedExpr()) {
+            result = BooleanExpression.obvious(expression.asEnclosedExpr().getInner());
+        } else if (expression.isBooleanLiteralExpr()
+            || expression.isInstanceOfExpr()
+            || BooleanExpression.isBooleanOperation(expression)
+        ) {
+            result = Optional.of(true);
+        } else if (expression.isLiteralExpr()
+            || expression.isObjectCreationExpr()
+            || expression.isLambdaExpr()
+            || expression.isMethodReferenceExpr()
+            || BooleanExpression.isMatcher(expression)
+        ) {
+            result = Optional.of(false);
+        } else {
+            result = Optional.empty();
+        }
+        return result;
+    }
+
+    /**
+     * Is the expression a comparison, a logical operation or a negation.
+     * @param expression The expression.
+     * @return True if it is.
+     */
+    private static boolean isBooleanOperation(final Expression expression) {
+        final boolean result;
+        if (expression.isBinaryExpr()) {
+            result = BooleanExpression.BOOLEAN.contains(
+                expression.asBinaryExpr().getOperator()
+            );
+        } else if (expression.isUnaryExpr()) {
+            result = expression.asUnaryExpr().getOperator()
+                == UnaryExpr.Operator.LOGICAL_COMPLEMENT;
+        } else {
+            result = false;
+        }
+        return result;
+    }
+
+    /**
+     * Is the expression a call of a Hamcrest matcher factory method.
+     * A call without a scope is a matcher only if its name is statically
+     * imported from Hamcrest and the class doesn't declare such a method.
+     * @param expression The expression.
+     * @return True if it is.
+     */
+    private static boolean isMatcher(final Expression expression) {
+        final boolean result;
+        if (expression.isMethodCallExpr()) {
+            final MethodCallExpr call = expression.asMethodCallExpr();
+            final String name = call.getNameAsString();
+            result = BooleanExpression.MATCHERS.contains(name)
+                && call.getScope()
+                .map(Expression::toString)
+                .map(BooleanExpression.FACTORIES::contains)
+                .orElseGet(
+                    () -> call.findCompilationUnit()
+                        .map(unit -> BooleanExpression.isImported(unit, name))
+                        .orElse(false)
+                );
+        } else {
+            result = false;
+        }
+        return result;
+    }
+
+    /**
+     * Is the method statically imported from Hamcrest.
+     * @param unit The compilation unit.
+     * @param name The name of the method.
+     * @return True if the method is imported and isn't declared in the unit.
+     */
+    private static boolean isImported(final CompilationUnit unit, final String name) {
+        return unit.getImports().stream()
+            .filter(ImportDeclaration::isStatic)
+            .anyMatch(
+                imported -> {
+                    final String full = imported.getNameAsString();
+                    final boolean res;
+                    if (imported.isAsterisk()) {
+                        res = full.startsWith(BooleanExpression.HAMCREST);
+                    } else {
+                        res = full.startsWith(BooleanExpression.HAMCREST)
+                            && full.endsWith(String.format(".%s", name));
+                    }
+                    return res;
+                }
+            )
+            && !unit.findFirst(
+                MethodDeclaration.class,
+                method -> name.equals(method.getNameAsString())
+            ).isPresent();
+    }
+}
@@ -25,6 +25,8 @@ package com.github.lombrozo.testnames.javaparser;
 
 import com.github.javaparser.ast.expr.MethodCallExpr;
 import java.util.Optional;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
 
 /**
  * The assertion of the test method.
@@ -38,43 +40,88 @@ public final class JavaParserAssertion implements ParsedAssertion {
      */
     private final MethodCallExpr call;
 
+    /**
+     * The JUnit view of the call.
+     */
+    private final ParsedAssertion junit;
+
+    /**
+     * The Hamcrest view of the call.
+     */
+    private final ParsedAssertion hamcrest;
+
+    /**
+     * The explanation, computed once on the first access.
+     */
+    private final Unchecked<Optional<String>> explained;
+
     /**
      * Ctor.
      * @param method The method call.
      */
     JavaParserAssertion(final MethodCallExpr method) {
+        this(method, new AssertionOfJUnit(method), new AssertionOfHamcrest(method));
+    }
+
+    /**
+     * Primary ctor.
+     * @param method The method call.
+     * @param junit The JUnit view of the call.
+     * @param hamcrest The Hamcrest view of the call.
+     */
+    private JavaParserAssertion(
+        final MethodCallExpr method,
+        final ParsedAssertion junit,
+        final ParsedAssertion hamcrest
+    ) {
         this.call = method;
+        this.junit = junit;
+        this.hamcrest = hamcrest;
+        this.explained = new Unchecked<>(
+            new Sticky<>(() -> JavaParserAssertion.explanation(junit, hamcrest))
+        );
     }
 
     @Override
     public Optional<String> explanation() {
-        final Optional<String> result;
-        final ParsedAssertion junit = new AssertionOfJUnit(this.call);
-        final ParsedAssertion hamcrest = new AssertionOfHamcrest(this.call);
-        if (junit.isAssertion()) {
-            result = junit.explanation();
-        } else if (hamcrest.isAssertion()) {
-            result = hamcrest.explanation();
-        } else {
-            result = Optional.empty();
-        }
-        return result;
+        return this.explained.value();
     }
 
     @Override
     public boolean isLineHitter() {
-        return new AssertionOfJUnit(this.call).isLineHitter()
-            || new AssertionOfHamcrest(this.call).isLineHitter();
+        return this.junit.isLineHitter() || this.hamcrest.isLineHitter();
     }
 
     @Override
     public boolean isAssertion() {
-        return new AssertionOfJUnit(this.call).isAssertion()
-            || new AssertionOfHamcrest(this.call).isAssertion();
+        return this.junit.isAssertion() || this.hamcrest.isAssertion();
     }
 
     @Override
     public String toString() {
         return this.call.toString();
     }
+
+    /**
+     * Explanation of the assertion.
+     * Explanations of Hamcrest assertions may require type resolution,
+     * which is the most expensive part of the check.
+     * @param junit The JUnit view of the call.
+     * @param hamcrest The Hamcrest view of the call.
+     * @return The explanation, if any.
+     */
+    private static Optional<String> explanation(
+        final ParsedAssertion junit,
+        final ParsedAssertion hamcrest
+    ) {
+        final Optional<String> result;
+        if (junit.isAssertion()) {
+            result = junit.explanation();
+        } else if (hamcrest.isAssertion()) {
+            result = hamcrest.explanation();
+        } else {
+            result = Optional.empty();
+        }
+        return result;
+    }
 }
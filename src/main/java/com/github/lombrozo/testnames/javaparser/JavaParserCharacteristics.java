@@ -38,17 +38,24 @@ final class JavaParserCharacteristics implements TestClassCharacteristics {
      */
     private final JavaParserClass klass;
 
+    /**
+     * Classes loaded during the run.
+     */
+    private final LoadedClasses classes;
+
     /**
      * Constructor.
      * @param klass JavaParser parsed class.
+     * @param classes Classes loaded during the run.
      */
-    JavaParserCharacteristics(final JavaParserClass klass) {
+    JavaParserCharacteristics(final JavaParserClass klass, final LoadedClasses classes) {
         this.klass = klass;
+        this.classes = classes;
     }
 
     @Override
     public boolean isJUnitExtension() {
-        return this.klass.parents().stream()
+        return this.klass.parents(this.classes).stream()
             .map(JUnitExtension::new)
             .anyMatch(JUnitExtension::isJUnitExtension);
     }
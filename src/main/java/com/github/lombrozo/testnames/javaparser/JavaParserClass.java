@@ -23,8 +23,6 @@
  */
 package com.github.lombrozo.testnames.javaparser;
 
-import com.github.javaparser.ParserConfiguration;
-import com.github.javaparser.StaticJavaParser;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.ImportDeclaration;
 import com.github.javaparser.ast.Node;
@@ -39,6 +37,7 @@ import com.github.javaparser.ast.nodeTypes.NodeWithName;
 import com.github.javaparser.ast.type.ClassOrInterfaceType;
 import com.github.javaparser.resolution.SymbolResolver;
 import com.github.lombrozo.testnames.Field;
+import com.github.lombrozo.testnames.Flight;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
@@ -50,7 +49,6 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.function.Predicate;
-import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -63,6 +61,11 @@ import java.util.stream.Stream;
 @SuppressWarnings("PMD.TooManyMethods")
 final class JavaParserClass {
 
+    /**
+     * Events for JDK Flight Recorder.
+     */
+    private static final Flight FLIGHT = new Flight();
+
     /**
      * Parsed Java class.
      */
@@ -75,7 +78,17 @@ final class JavaParserClass {
      * @param resolver Symbol resolver.
      */
     JavaParserClass(final Path path, final SymbolResolver resolver) {
-        this(JavaParserClass.parse(path, resolver));
+        this(path, new PooledParser(resolver));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param path Input stream with java class.
+     * @param parser Parsers of the project.
+     */
+    JavaParserClass(final Path path, final PooledParser parser) {
+        this(JavaParserClass.parse(path, parser));
     }
 
     /**
@@ -85,7 +98,7 @@ final class JavaParserClass {
      * @param resolver Symbol resolver.
      */
     JavaParserClass(final InputStream stream, final SymbolResolver resolver) {
-        this(JavaParserClass.parse(stream, resolver));
+        this(new PooledParser(resolver).parse(stream));
     }
 
     /**
@@ -168,16 +181,17 @@ final class JavaParserClass {
 
     /**
      * Returns all parents of the class.
+     * Parents are loaded through the classes cached for the entire run.
      *
+     * @param loaded Classes loaded during the run.
      * @return All parents of the class.
      */
-    Collection<Class<?>> parents() {
+    Collection<Class<?>> parents(final LoadedClasses loaded) {
         final Collection<String> all = this.imports();
         return this.implement().getImplementedTypes().stream()
             .filter(ClassOrInterfaceType::isClassOrInterfaceType)
             .map(ClassOrInterfaceType::getNameWithScope)
-            .map(name -> all.stream().filter(s -> s.contains(name)).findFirst().orElse(name))
-            .map(this::load)
+            .map(name -> loaded.load(name, all))
             .filter(Optional::isPresent)
             .map(Optional::get)
             .collect(Collectors.toList());
@@ -257,28 +271,6 @@ final class JavaParserClass {
             && "empty".equals(this.cast().getNameAsString());
     }
 
-    /**
-     * Loads class from the classpath.
-     *
-     * @param name Name of the class.
-     * @return Loaded class.
-     */
-    private Optional<Class<?>> load(final String name) {
-        Optional<Class<?>> res;
-        try {
-            res = Optional.ofNullable(
-                Thread.currentThread().getContextClassLoader().loadClass(name)
-            );
-        } catch (final ClassNotFoundException ex) {
-            Logger.getLogger(this.getClass().getName())
-                .warning(
-                    String.format("Can't find class %s in classpath", name)
-                );
-            res = Optional.empty();
-        }
-        return res;
-    }
-
     /**
      * All the imports of the current class.
      *
@@ -353,15 +345,15 @@ final class JavaParserClass {
      * Parse java by path.
      *
      * @param path Path to java file
-     * @param resolver Symbol resolver.
+     * @param parser Parsers of the project.
      * @return Compilation unit.
      */
-    private static CompilationUnit parse(final Path path, final SymbolResolver resolver) {
-        try {
-            StaticJavaParser.getParserConfiguration()
-                .setSymbolResolver(resolver)
-                .setLanguageLevel(ParserConfiguration.LanguageLevel.JAVA_17);
-            return JavaParserClass.parse(Files.newInputStream(path), resolver);
+    private static CompilationUnit parse(final Path path, final PooledParser parser) {
+        final Object flight = JavaParserClass.FLIGHT.parsing();
+        try (InputStream stream = Files.newInputStream(path)) {
+            final CompilationUnit res = parser.parse(stream);
+            JavaParserClass.FLIGHT.parsed(path, flight);
+            return res;
         } catch (final IOException ex) {
             throw new IllegalStateException(
                 String.format("Can't parse java file: %s", path.toAbsolutePath()),
@@ -369,18 +361,4 @@ final class JavaParserClass {
             );
         }
     }
-
-    /**
-     * Parse java by input stream.
-     *
-     * @param stream Input stream.
-     * @param resolver Symbol resolver.
-     * @return Compilation unit.
-     */
-    private static CompilationUnit parse(final InputStream stream, final SymbolResolver resolver) {
-        StaticJavaParser.getParserConfiguration()
-            .setSymbolResolver(resolver)
-            .setLanguageLevel(ParserConfiguration.LanguageLevel.JAVA_17);
-        return StaticJavaParser.parse(stream);
-    }
 }
@@ -23,14 +23,7 @@
  */
 package com.github.lombrozo.testnames.javaparser;
 
-import com.github.javaparser.ast.Node;
 import com.github.javaparser.ast.body.MethodDeclaration;
-import com.github.javaparser.ast.expr.Expression;
-import com.github.javaparser.ast.expr.MethodCallExpr;
-import com.github.javaparser.ast.stmt.BlockStmt;
-import com.github.javaparser.ast.stmt.Statement;
-import java.util.stream.Stream;
-import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
 /**
@@ -40,7 +33,6 @@ import lombok.ToString;
  * @since 0.1.15
  */
 @ToString
-@EqualsAndHashCode
 final class JavaParserMethod {
 
     /**
@@ -71,70 +63,4 @@ final class JavaParserMethod {
     MethodDeclaration asMethodDeclaration() {
         return this.method;
     }
-
-    /**
-     * Get all method statements.
-     * @return Method statements.
-     */
-    Stream<MethodCallExpr> statements() {
-        return JavaParserMethod.flatStatements(this.body().getStatements().stream())
-            .filter(Statement::isExpressionStmt)
-            .map(JavaParserMethod::toExpression)
-            .filter(Expression::isMethodCallExpr)
-            .map(MethodCallExpr.class::cast);
-    }
-
-    /**
-     * This method unrolls inner method statements.
-     * In other words, if a statement is a type of block that contains inner statements,
-     * we simply unroll all these statements and return them as a flat stream.
-     * @param stmts Statements to unroll.
-     * @return Stream of statements.
-     */
-    @SuppressWarnings("PMD.CognitiveComplexity")
-    private static Stream<Statement> flatStatements(final Stream<? extends Statement> stmts) {
-        return stmts.flatMap(JavaParserMethod::statements);
-    }
-
-    /**
-     * Extract statements from node.
-     * @param node Node to extract statements from.
-     * @return List of statements.
-     */
-    private static Stream<Statement> statements(final Node node) {
-        return Stream.concat(
-            Stream.of(node)
-                .filter(Statement.class::isInstance)
-                .map(Statement.class::cast),
-            node.getChildNodes()
-                .stream()
-                .flatMap(JavaParserMethod::statements)
-        );
-    }
-
-    /**
-     * Get method body.
-     * @return Method body.
-     */
-    private BlockStmt body() {
-        return this.method.getBody().orElseThrow(
-            () -> new IllegalStateException(
-                String.format(
-                    "The method %s has to have body, otherwise it is not a method",
-                    this.method.getNameAsString()
-                )
-            )
-        );
-    }
-
-    /**
-     * Convert statement to expression.
-     * @param statement Statement
-     * @return Expression
-     */
-    private static Expression toExpression(final Statement statement) {
-        return statement.toExpressionStmt().orElseThrow(
-            () -> new IllegalStateException("Statement is not expression")
-        ).getExpression();
-    }
 }
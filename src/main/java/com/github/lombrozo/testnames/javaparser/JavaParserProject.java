@@ -24,22 +24,23 @@
 package com.github.lombrozo.testnames.javaparser;
 
 import com.github.javaparser.resolution.SymbolResolver;
-import com.github.javaparser.resolution.TypeSolver;
 import com.github.javaparser.symbolsolver.JavaSymbolSolver;
 import com.github.javaparser.symbolsolver.resolution.typesolvers.ClassLoaderTypeSolver;
 import com.github.javaparser.symbolsolver.resolution.typesolvers.CombinedTypeSolver;
-import com.github.javaparser.symbolsolver.resolution.typesolvers.JavaParserTypeSolver;
 import com.github.javaparser.symbolsolver.resolution.typesolvers.ReflectionTypeSolver;
+import com.github.lombrozo.testnames.Fact;
+import com.github.lombrozo.testnames.LazyCollection;
 import com.github.lombrozo.testnames.ProductionClass;
+import com.github.lombrozo.testnames.Profile;
 import com.github.lombrozo.testnames.Project;
 import com.github.lombrozo.testnames.TestClass;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -61,35 +62,154 @@ public final class JavaParserProject implements Project {
     private final Path test;
 
     /**
-     * The rules that have to be excluded from execution.
+     * The filter of test files that have to be parsed and checked.
      */
-    private final Collection<String> exclusions;
+    private final Predicate<Path> filter;
+
+    /**
+     * The symbol resolver shared by all the classes of the project.
+     */
+    private final ProjectResolver resolver;
+
+    /**
+     * The parsers of the project, they attach the resolver to parsed classes.
+     */
+    private final PooledParser parser;
+
+    /**
+     * The depth of the analysis of test classes.
+     */
+    private final Fact depth;
+
+    /**
+     * The profile of the run.
+     */
+    private final Profile profile;
+
+    /**
+     * Classes loaded during the run.
+     */
+    private final LoadedClasses classes;
 
     /**
      * Ctor.
      *
      * @param main The main path where production classes are placed.
      * @param test The test path where test classes are placed.
-     * @param exclusions The rules that have to be excluded from execution.
+     */
+    public JavaParserProject(final Path main, final Path test) {
+        this(main, test, path -> true);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param main The main path where production classes are placed.
+     * @param test The test path where test classes are placed.
+     * @param filter The filter of test files that have to be parsed and checked.
+     */
+    public JavaParserProject(final Path main, final Path test, final Predicate<Path> filter) {
+        this(main, test, filter, Fact.RESOLVED_TYPES);
+    }
+
+    /**
+     * Ctor.
+     * If the depth doesn't exceed {@link Fact#METHOD_NAMES}, test classes are
+     * only scanned for names. They don't have fields, assertions and
+     * statements, so the rules that need them can't be applied.
+     *
+     * @param main The main path where production classes are placed.
+     * @param test The test path where test classes are placed.
+     * @param filter The filter of test files that have to be parsed and checked.
+     * @param depth The depth of the analysis of test classes.
+     * @checkstyle ParameterNumberCheck (6 lines)
      */
     public JavaParserProject(
         final Path main,
         final Path test,
-        final Collection<String> exclusions
+        final Predicate<Path> filter,
+        final Fact depth
     ) {
-        this.main = main;
-        this.test = test;
-        this.exclusions = exclusions;
+        this(main, test, filter, depth, new Profile.Silent());
+    }
+
+    /**
+     * Ctor.
+     * Walking, parsing and symbol resolution are timed in the profile.
+     *
+     * @param main The main path where production classes are placed.
+     * @param test The test path where test classes are placed.
+     * @param filter The filter of test files that have to be parsed and checked.
+     * @param depth The depth of the analysis of test classes.
+     * @param profile The profile of the run.
+     * @checkstyle ParameterNumberCheck (7 lines)
+     */
+    public JavaParserProject(
+        final Path main,
+        final Path test,
+        final Predicate<Path> filter,
+        final Fact depth,
+        final Profile profile
+    ) {
+        this(main, test, filter, depth, profile, new LoadedClasses());
     }
 
     /**
      * Ctor.
+     * Parents of test classes are loaded through the classes of the run,
+     * which can be shared by several projects.
      *
      * @param main The main path where production classes are placed.
      * @param test The test path where test classes are placed.
+     * @param filter The filter of test files that have to be parsed and checked.
+     * @param depth The depth of the analysis of test classes.
+     * @param profile The profile of the run.
+     * @param classes Classes loaded during the run.
+     * @checkstyle ParameterNumberCheck (8 lines)
      */
-    JavaParserProject(final Path main, final Path test) {
-        this(main, test, Collections.emptyList());
+    public JavaParserProject(
+        final Path main,
+        final Path test,
+        final Predicate<Path> filter,
+        final Fact depth,
+        final Profile profile,
+        final LoadedClasses classes
+    ) {
+        this(
+            main, test, filter,
+            new ProjectResolver(main, test, profile), depth, profile, classes
+        );
+    }
+
+    /**
+     * Primary ctor.
+     *
+     * @param main The main path where production classes are placed.
+     * @param test The test path where test classes are placed.
+     * @param filter The filter of test files that have to be parsed and checked.
+     * @param resolver The symbol resolver shared by all the classes.
+     * @param depth The depth of the analysis of test classes.
+     * @param profile The profile of the run.
+     * @param classes Classes loaded during the run.
+     * @checkstyle ParameterNumberCheck (9 lines)
+     */
+    private JavaParserProject(
+        final Path main,
+        final Path test,
+        final Predicate<Path> filter,
+        final ProjectResolver resolver,
+        final Fact depth,
+        final Profile profile,
+        final LoadedClasses classes
+    ) {
+        this.main = main;
+        this.test = test;
+        this.filter = filter;
+        this.resolver = resolver;
+        this.parser = new PooledParser(resolver);
+        this.depth = depth;
+        this.profile = profile;
+        this.classes = classes;
     }
 
     @Override
@@ -112,33 +232,101 @@ public final class JavaParserProject implements Project {
         return res;
     }
 
+    /**
+     * Test classes of the project.
+     * The collection is lazy: each traversal walks the test sources again and
+     * parses them one by one, so parsed classes can be dropped right after
+     * the check. A parallel stream of the collection parses files in parallel.
+     * If no fact deeper than names of methods is needed, files are scanned
+     * by {@link NameScanner} instead.
+     *
+     * @return Test classes.
+     */
     @Override
     public Collection<TestClass> testClasses() {
-        final Collection<TestClass> res;
+        return new LazyCollection<>(this::tests);
+    }
+
+    /**
+     * The number of symbols resolved so far.
+     * Type resolution is the most expensive part of the analysis.
+     *
+     * @return The number of resolutions.
+     */
+    public long resolutions() {
+        return this.resolver.resolutions();
+    }
+
+    /**
+     * Stream of test classes.
+     *
+     * @return Test classes.
+     */
+    private Stream<TestClass> tests() {
+        final Stream<TestClass> res;
         if (Files.exists(this.test)) {
+            final long start = this.profile.start();
+            final List<Path> sources;
             try (Stream<Path> files = Files.walk(this.test)) {
-                res = files
+                sources = files
                     .filter(Files::exists)
                     .filter(Files::isRegularFile)
                     .filter(path -> path.toString().endsWith(".java"))
-                    .filter(path -> new JavaParserClass(path, this.projectResolver()).isTest())
-                    .map(
-                        klass -> new JavaParserTestClass(
-                            klass,
-                            this.projectResolver(),
-                            this.exclusions
-                        )
-                    )
                     .collect(Collectors.toList());
             } catch (final IOException exception) {
                 throw new IllegalStateException(exception);
             }
+            this.profile.stop("walking", start);
+            final Stream<Path> candidates = sources.stream()
+                .filter(this.filter)
+                .filter(new MayContainTests());
+            if (this.depth.compareTo(Fact.METHOD_NAMES) <= 0) {
+                res = candidates
+                    .map(klass -> new ScannedTestClass(klass, this.classes))
+                    .filter(this::scanned)
+                    .map(TestClass.class::cast);
+            } else {
+                res = candidates
+                    .map(
+                        klass -> new JavaParserTestClass(klass, this.parser, this.classes)
+                    )
+                    .filter(this::parsed)
+                    .map(TestClass.class::cast);
+            }
         } else {
-            res = Collections.emptyList();
+            res = Stream.empty();
         }
         return res;
     }
 
+    /**
+     * Is the scanned class a test class.
+     * The check scans the file, so it is timed as scanning.
+     *
+     * @param klass The scanned class.
+     * @return True if the class is a test class.
+     */
+    private boolean scanned(final ScannedTestClass klass) {
+        final long start = this.profile.start();
+        final boolean res = klass.isTest();
+        this.profile.stop("scanning", klass.path(), start);
+        return res;
+    }
+
+    /**
+     * Is the parsed class a test class.
+     * The check parses the file, so it is timed as parsing.
+     *
+     * @param klass The parsed class.
+     * @return True if the class is a test class.
+     */
+    private boolean parsed(final JavaParserTestClass klass) {
+        final long start = this.profile.start();
+        final boolean res = klass.isTest();
+        this.profile.stop("parsing", klass.path(), start);
+        return res;
+    }
+
     /**
      * Resolver for JavaParser.
      *
@@ -156,22 +344,4 @@ public final class JavaParserProject implements Project {
             )
         );
     }
-
-    /**
-     * Resolver for JavaParser.
-     *
-     * @return Symbol resolver.
-     */
-    private SymbolResolver projectResolver() {
-        final List<TypeSolver> solvers = new ArrayList(0);
-        solvers.add(new ReflectionTypeSolver());
-        solvers.add(new ClassLoaderTypeSolver(Thread.currentThread().getContextClassLoader()));
-        if (Files.exists(this.main)) {
-            solvers.add(new JavaParserTypeSolver(this.main));
-        }
-        if (Files.exists(this.test)) {
-            solvers.add(new JavaParserTypeSolver(this.test));
-        }
-        return new JavaSymbolSolver(new CombinedTypeSolver(solvers.toArray(new TypeSolver[0])));
-    }
 }
@@ -24,10 +24,8 @@
 
 package com.github.lombrozo.testnames.javaparser;
 
-import com.github.javaparser.ast.Node;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.body.MethodDeclaration;
-import com.github.javaparser.ast.stmt.ExpressionStmt;
 import com.github.javaparser.ast.type.VarType;
 import com.github.lombrozo.testnames.Assertion;
 import com.github.lombrozo.testnames.TestCase;
@@ -35,14 +33,21 @@ import com.github.lombrozo.testnames.TestClass;
 import java.util.Collection;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
 
 /**
  * Parser for a test case.
+ * Test cases are compared by their cheap keys: the path of the class and the
+ * position of the method, or its name if the position is unknown.
+ * Comparison of method declarations would hash their entire syntax trees.
  *
  * @since 0.1.0
  */
-@Data
+@ToString
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @SuppressWarnings("PMD.TestClassWithoutTestCases")
 final class JavaParserTestCase implements TestCase {
 
@@ -54,8 +59,22 @@ final class JavaParserTestCase implements TestCase {
     /**
      * Parent test class.
      */
+    @ToString.Exclude
     private final TestClass parent;
 
+    /**
+     * The key of the test case.
+     */
+    @EqualsAndHashCode.Include
+    @ToString.Exclude
+    private final String key;
+
+    /**
+     * Facts about the method, collected once on the first access.
+     */
+    @ToString.Exclude
+    private final Unchecked<MethodFacts> facts;
+
     /**
      * Ctor.
      *
@@ -98,6 +117,10 @@ final class JavaParserTestCase implements TestCase {
     ) {
         this.method = method;
         this.parent = parent;
+        this.key = JavaParserTestCase.key(method, parent);
+        this.facts = new Unchecked<>(
+            new Sticky<>(() -> new MethodFacts(method.asMethodDeclaration()))
+        );
     }
 
     @Override
@@ -115,19 +138,27 @@ final class JavaParserTestCase implements TestCase {
 
     @Override
     public Collection<Assertion> assertions() {
-        return this.method.statements()
-            .map(JavaParserAssertion::new)
-            .filter(ParsedAssertion::isAssertion)
-            .collect(Collectors.toList());
+        return this.facts.value().assertions();
     }
 
     @Override
     public Collection<String> statements() {
-        return this.method.asMethodDeclaration()
-            .findAll(ExpressionStmt.class)
-            .stream()
-            .map(Node::toString)
-            .collect(Collectors.toList());
+        return this.facts.value().statements();
     }
 
+    /**
+     * The key of the test case.
+     * @param method Java method
+     * @param parent Parent test class
+     * @return The path of the class and the position or the name of the method.
+     */
+    private static String key(final JavaParserMethod method, final TestClass parent) {
+        return String.format(
+            "%s#%s",
+            parent.path(),
+            method.asMethodDeclaration().getBegin()
+                .map(Object::toString)
+                .orElseGet(method::name)
+        );
+    }
 }
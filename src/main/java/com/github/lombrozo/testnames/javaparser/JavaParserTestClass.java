@@ -36,7 +36,6 @@ import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import org.cactoos.list.ListOf;
 import org.cactoos.scalar.Sticky;
 import org.cactoos.scalar.Unchecked;
@@ -60,9 +59,19 @@ public final class JavaParserTestClass implements TestClass {
     private final Unchecked<JavaParserClass> unit;
 
     /**
-     * Rules excluded for entire project.
+     * Suppressed rules, collected once on the first access.
      */
-    private final Collection<String> exclusions;
+    private final Unchecked<Collection<String>> hidden;
+
+    /**
+     * Test cases in the order of declaration, collected once on the first access.
+     */
+    private final Unchecked<Collection<TestCase>> cases;
+
+    /**
+     * Classes loaded during the run.
+     */
+    private final LoadedClasses classes;
 
     /**
      * Ctor.
@@ -78,12 +87,28 @@ public final class JavaParserTestClass implements TestClass {
      *
      * @param klass Path to the class
      * @param resolver Symbol resolver.
-     * @param exclusions Rules excluded for an entire project.
+     */
+    JavaParserTestClass(final Path klass, final SymbolResolver resolver) {
+        this(klass, JavaParserTestClass.parse(klass, resolver));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param klass Path to the class
+     * @param parser Parsers of the project.
+     * @param classes Classes loaded during the run.
      */
     JavaParserTestClass(
-        final Path klass, final SymbolResolver resolver, final Collection<String> exclusions
+        final Path klass,
+        final PooledParser parser,
+        final LoadedClasses classes
     ) {
-        this(klass, JavaParserTestClass.parse(klass, resolver), exclusions);
+        this(
+            klass,
+            new Unchecked<>(new Sticky<>(() -> new JavaParserClass(klass, parser))),
+            classes
+        );
     }
 
     /**
@@ -104,57 +129,44 @@ public final class JavaParserTestClass implements TestClass {
      * @param parsed Parsed class.
      */
     private JavaParserTestClass(final Path klass, final Sticky<JavaParserClass> parsed) {
-        this(klass, new Unchecked<>(parsed), Collections.emptySet());
+        this(klass, new Unchecked<>(parsed));
     }
 
     /**
      * Ctor.
      *
-     * @param klass Path to the class.
-     * @param resolver Symbol resolver.
-     * @param stream Parsed Java class.
-     * @param exclusions Rules excluded for an entire project.
-     * @checkstyle ParameterNumberCheck (5 lines)
+     * @param path Path to the class
+     * @param unit Parsed class.
      */
-    JavaParserTestClass(
-        final Path klass,
-        final SymbolResolver resolver,
-        final InputStream stream,
-        final Collection<String> exclusions
-    ) {
-        this(klass, JavaParserTestClass.parse(stream, resolver), exclusions);
-    }
-
-    /**
-     * Ctor.
-     *
-     * @param klass Path to the class
-     * @param parsed Parsed class.
-     * @param exclusions Rules excluded for entire project.
-     */
-    JavaParserTestClass(
-        final Path klass,
-        final Sticky<JavaParserClass> parsed,
-        final Collection<String> exclusions
-    ) {
-        this(klass, new Unchecked<>(parsed), exclusions);
+    JavaParserTestClass(final Path path, final Unchecked<JavaParserClass> unit) {
+        this(path, unit, new LoadedClasses());
     }
 
     /**
      * Constructor.
+     * Rules excluded for an entire project aren't suppressed here, they
+     * are a part of the global suppressions of the law.
      *
      * @param path Path to the class
      * @param unit Parsed class.
-     * @param exclusions Rules excluded for entire project.
+     * @param classes Classes loaded during the run.
      */
-    JavaParserTestClass(
+    private JavaParserTestClass(
         final Path path,
         final Unchecked<JavaParserClass> unit,
-        final Collection<String> exclusions
+        final LoadedClasses classes
     ) {
         this.path = path;
         this.unit = unit;
-        this.exclusions = exclusions;
+        this.hidden = new Unchecked<>(
+            new Sticky<>(
+                () -> Collections.unmodifiableSet(
+                    unit.value().annotations().suppressed().collect(Collectors.toSet())
+                )
+            )
+        );
+        this.cases = new Unchecked<>(new Sticky<>(this::cases));
+        this.classes = classes;
     }
 
     @Override
@@ -169,17 +181,7 @@ public final class JavaParserTestClass implements TestClass {
 
     @Override
     public Collection<TestCase> all() {
-        try {
-            return this.unit.value()
-                .methods(new TestsOnly())
-                .map(method -> new JavaParserTestCase(method, this))
-                .collect(Collectors.toSet());
-        } catch (final UncheckedIOException | ParseProblemException ex) {
-            throw new IllegalStateException(
-                String.format("Failed to parse Java class by path %s", this.path),
-                ex
-            );
-        }
+        return this.cases.value();
     }
 
     @Override
@@ -189,15 +191,44 @@ public final class JavaParserTestClass implements TestClass {
 
     @Override
     public Collection<String> suppressed() {
-        return Stream.concat(
-            this.unit.value().annotations().suppressed(),
-            this.exclusions.stream()
-        ).collect(Collectors.toSet());
+        return this.hidden.value();
     }
 
     @Override
     public TestClassCharacteristics characteristics() {
-        return new JavaParserCharacteristics(this.unit.value());
+        return new JavaParserCharacteristics(this.unit.value(), this.classes);
+    }
+
+    /**
+     * Whether the class is a test.
+     * The parsed class is memoized, so the same compilation unit is reused
+     * by all the rules that check this class later.
+     *
+     * @return True if the class is a test.
+     */
+    boolean isTest() {
+        return this.unit.value().isTest();
+    }
+
+    /**
+     * Test cases of the class.
+     *
+     * @return Unmodifiable list of test cases in the order of declaration.
+     */
+    private Collection<TestCase> cases() {
+        try {
+            return Collections.unmodifiableList(
+                this.unit.value()
+                    .methods(new TestsOnly())
+                    .map(method -> new JavaParserTestCase(method, this))
+                    .collect(Collectors.toList())
+            );
+        } catch (final UncheckedIOException | ParseProblemException ex) {
+            throw new IllegalStateException(
+                String.format("Failed to parse Java class by path %s", this.path),
+                ex
+            );
+        }
     }
 
     /**
@@ -0,0 +1,279 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+/**
+ * Tokens of Java source.
+ * A minimal lexer that splits source code into words, text literals and
+ * single-character symbols. Whitespaces and comments are skipped. The lexer
+ * is a cursor over the source, so it doesn't create objects for tokens
+ * until their text is requested.
+ *
+ * @since 1.5
+ */
+final class JavaTokens {
+
+    /**
+     * The end of the source.
+     */
+    static final int END = 0;
+
+    /**
+     * Identifier, keyword or number.
+     */
+    static final int WORD = 1;
+
+    /**
+     * String, text block or character literal.
+     */
+    static final int TEXT = 2;
+
+    /**
+     * Any other single character.
+     */
+    static final int SYMBOL = 3;
+
+    /**
+     * Java source.
+     */
+    private final String source;
+
+    /**
+     * Position right after the current token.
+     */
+    private int pos;
+
+    /**
+     * Start of the current token text.
+     */
+    private int start;
+
+    /**
+     * End of the current token text.
+     */
+    private int end;
+
+    /**
+     * Kind of the current token.
+     */
+    private int kind;
+
+    /**
+     * Ctor.
+     * @param source Java source.
+     */
+    JavaTokens(final String source) {
+        this.source = source;
+        this.kind = JavaTokens.END;
+    }
+
+    /**
+     * Move to the next token.
+     * @return Kind of the next token.
+     */
+    int next() {
+        this.skip();
+        final int length = this.source.length();
+        if (this.pos >= length) {
+            this.kind = JavaTokens.END;
+            this.start = length;
+            this.end = length;
+        } else {
+            final char first = this.source.charAt(this.pos);
+            if (Character.isJavaIdentifierPart(first)) {
+                this.word();
+            } else if (first == '"') {
+                this.literal();
+            } else if (first == '\'') {
+                this.character();
+            } else {
+                this.kind = JavaTokens.SYMBOL;
+                this.start = this.pos;
+                this.pos += 1;
+                this.end = this.pos;
+            }
+        }
+        return this.kind;
+    }
+
+    /**
+     * Kind of the current token.
+     * @return Kind of the token.
+     */
+    int kind() {
+        return this.kind;
+    }
+
+    /**
+     * Is the next token the symbol.
+     * The cursor stays at the current token.
+     * @param symbol The symbol.
+     * @return True if the next token is the symbol.
+     */
+    boolean peek(final char symbol) {
+        final int position = this.pos;
+        final int first = this.start;
+        final int last = this.end;
+        final int current = this.kind;
+        this.next();
+        final boolean res = this.is(symbol);
+        this.pos = position;
+        this.start = first;
+        this.end = last;
+        this.kind = current;
+        return res;
+    }
+
+    /**
+     * Is the current token the word.
+     * @param word The word.
+     * @return True if the current token is the word.
+     */
+    boolean is(final String word) {
+        return this.kind == JavaTokens.WORD
+            && this.end - this.start == word.length()
+            && this.source.regionMatches(this.start, word, 0, word.length());
+    }
+
+    /**
+     * Is the current token the symbol.
+     * @param symbol The symbol.
+     * @return True if the current token is the symbol.
+     */
+    boolean is(final char symbol) {
+        return this.kind == JavaTokens.SYMBOL && this.source.charAt(this.start) == symbol;
+    }
+
+    /**
+     * Text of the current token.
+     * Text literals are returned without quotes and escapes are kept as is.
+     * @return Text of the token.
+     */
+    String text() {
+        return this.source.substring(this.start, this.end);
+    }
+
+    /**
+     * Skip whitespaces and comments.
+     */
+    private void skip() {
+        final int length = this.source.length();
+        boolean skipped = true;
+        while (skipped && this.pos < length) {
+            final char current = this.source.charAt(this.pos);
+            if (Character.isWhitespace(current)) {
+                this.pos += 1;
+            } else if (this.starts("//")) {
+                this.pos = this.find("\n", this.pos + 2);
+            } else if (this.starts("/*")) {
+                this.pos = this.find("*/", this.pos + 2);
+            } else {
+                skipped = false;
+            }
+        }
+    }
+
+    /**
+     * Read identifier, keyword or number.
+     */
+    private void word() {
+        final int length = this.source.length();
+        this.kind = JavaTokens.WORD;
+        this.start = this.pos;
+        while (this.pos < length && Character.isJavaIdentifierPart(this.source.charAt(this.pos))) {
+            this.pos += 1;
+        }
+        this.end = this.pos;
+    }
+
+    /**
+     * Read string literal or text block.
+     */
+    private void literal() {
+        this.kind = JavaTokens.TEXT;
+        if (this.starts("\"\"\"")) {
+            this.start = this.pos + 3;
+            this.end = this.closing("\"\"\"", this.start);
+            this.pos = Math.min(this.end + 3, this.source.length());
+        } else {
+            this.start = this.pos + 1;
+            this.end = this.closing("\"", this.start);
+            this.pos = Math.min(this.end + 1, this.source.length());
+        }
+    }
+
+    /**
+     * Read character literal.
+     */
+    private void character() {
+        this.kind = JavaTokens.TEXT;
+        this.start = this.pos + 1;
+        this.end = this.closing("'", this.start);
+        this.pos = Math.min(this.end + 1, this.source.length());
+    }
+
+    /**
+     * Does the rest of the source start with the prefix.
+     * @param prefix The prefix.
+     * @return True if the source continues with the prefix.
+     */
+    private boolean starts(final String prefix) {
+        return this.source.startsWith(prefix, this.pos);
+    }
+
+    /**
+     * Find the position right after the terminator.
+     * @param terminator The terminator.
+     * @param from The position to start from.
+     * @return Position after the terminator or the end of the source.
+     */
+    private int find(final String terminator, final int from) {
+        final int found = this.source.indexOf(terminator, from);
+        final int res;
+        if (found < 0) {
+            res = this.source.length();
+        } else {
+            res = found + terminator.length();
+        }
+        return res;
+    }
+
+    /**
+     * Find the closing quote of a literal, skipping escaped characters.
+     * @param quote The closing quote.
+     * @param from The position to start from.
+     * @return Position of the closing quote or the end of the source.
+     */
+    private int closing(final String quote, final int from) {
+        final int length = this.source.length();
+        int res = from;
+        while (res < length && !this.source.startsWith(quote, res)) {
+            if (this.source.charAt(res) == '\\') {
+                res += 1;
+            }
+            res += 1;
+        }
+        return Math.min(res, length);
+    }
+}
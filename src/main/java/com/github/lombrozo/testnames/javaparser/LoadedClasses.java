@@ -0,0 +1,159 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * Classes loaded by their names.
+ * The same parent types, such as JUnit extension callbacks, are implemented
+ * by many test classes, so each name is looked up in the class loader only
+ * once per run. Names that can't be found are cached as well, and only the
+ * first few of them are reported as warnings. An instance is created for a
+ * single run and shared by all its projects, so neither the class loader
+ * nor the cached names outlive the run.
+ *
+ * @since 1.5
+ */
+public final class LoadedClasses {
+
+    /**
+     * Logger.
+     */
+    private static final Logger LOG = Logger.getLogger(LoadedClasses.class.getName());
+
+    /**
+     * The max number of warnings about classes that can't be found.
+     */
+    private static final int WARNINGS = 10;
+
+    /**
+     * Class loader.
+     */
+    private final ClassLoader loader;
+
+    /**
+     * Loaded classes by their names.
+     */
+    private final ConcurrentMap<String, Optional<Class<?>>> classes;
+
+    /**
+     * The number of names that can't be found.
+     */
+    private final AtomicInteger misses;
+
+    /**
+     * Ctor.
+     * Classes are loaded by the context class loader of the current thread.
+     */
+    public LoadedClasses() {
+        this(Thread.currentThread().getContextClassLoader());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param loader Class loader.
+     */
+    public LoadedClasses(final ClassLoader loader) {
+        this.loader = loader;
+        this.classes = new ConcurrentHashMap<>(0);
+        this.misses = new AtomicInteger(0);
+    }
+
+    /**
+     * Load class by name.
+     *
+     * @param name Fully qualified name of the class.
+     * @return Loaded class or empty if the class can't be found.
+     */
+    Optional<Class<?>> load(final String name) {
+        return this.classes.computeIfAbsent(name, this::find);
+    }
+
+    /**
+     * Load class by its name as it's written in the source.
+     * The name is completed by the first import that contains it.
+     *
+     * @param name Name of the class, possibly with the scope.
+     * @param imports Imports of the source.
+     * @return Loaded class or empty if the class can't be found.
+     */
+    Optional<Class<?>> load(final String name, final Collection<String> imports) {
+        return this.load(
+            imports.stream().filter(imported -> imported.contains(name)).findFirst().orElse(name)
+        );
+    }
+
+    /**
+     * The number of names that can't be found.
+     *
+     * @return The number of misses.
+     */
+    int misses() {
+        return this.misses.get();
+    }
+
+    /**
+     * Find class in the class loader.
+     *
+     * @param name Fully qualified name of the class.
+     * @return Found class or empty.
+     */
+    private Optional<Class<?>> find(final String name) {
+        Optional<Class<?>> res;
+        try {
+            res = Optional.of(this.loader.loadClass(name));
+        } catch (final ClassNotFoundException ex) {
+            final int count = this.misses.incrementAndGet();
+            if (count < LoadedClasses.WARNINGS) {
+                LoadedClasses.LOG.warning(
+                    String.format("Can't find class %s in classpath", name)
+                );
+            } else if (count == LoadedClasses.WARNINGS) {
+                LoadedClasses.LOG.warning(
+                    String.format(
+                        String.join(
+                            " ",
+                            "Can't find class %s in classpath,",
+                            "other missing classes are logged at FINE level"
+                        ),
+                        name
+                    )
+                );
+            } else {
+                LoadedClasses.LOG.fine(
+                    () -> String.format("Can't find class %s in classpath", name)
+                );
+            }
+            res = Optional.empty();
+        }
+        return res;
+    }
+}
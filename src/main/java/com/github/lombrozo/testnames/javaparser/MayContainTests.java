@@ -0,0 +1,206 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Predicate;
+
+/**
+ * Cheap pre-filter of java files that may contain tests.
+ * The predicate scans raw bytes of a file, without building AST, and looks
+ * for the {@code @Test} or {@code @ParameterizedTest} annotations, simple or
+ * qualified. Files that can't contain these annotations are skipped before
+ * parsing. The filter is conservative: it may accept a file without tests,
+ * but it never rejects a file with tests, since {@link TestsOnly} makes
+ * the final decision after parsing. Big files are memory-mapped.
+ *
+ * @since 1.5
+ */
+final class MayContainTests implements Predicate<Path> {
+
+    /**
+     * Default size of a file starting from which the file is memory-mapped.
+     */
+    private static final long MAPPING = 64 * 1024;
+
+    /**
+     * Simple names of the test annotations.
+     */
+    private static final byte[][] ANNOTATIONS = {
+        "Test".getBytes(StandardCharsets.US_ASCII),
+        "ParameterizedTest".getBytes(StandardCharsets.US_ASCII),
+    };
+
+    /**
+     * Size of a file starting from which the file is memory-mapped.
+     */
+    private final long threshold;
+
+    /**
+     * Ctor.
+     */
+    MayContainTests() {
+        this(MayContainTests.MAPPING);
+    }
+
+    /**
+     * Primary ctor.
+     *
+     * @param threshold Size of a file starting from which the file is memory-mapped.
+     */
+    MayContainTests(final long threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public boolean test(final Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final ByteBuffer buffer;
+            if (channel.size() >= this.threshold) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            } else {
+                buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+            }
+            return MayContainTests.scan(buffer);
+        } catch (final IOException ex) {
+            throw new IllegalStateException(
+                String.format("Can't read java file: %s", path.toAbsolutePath()),
+                ex
+            );
+        }
+    }
+
+    /**
+     * Scan bytes for test annotations.
+     * Unicode escapes can hide any character, so a file with them is always accepted.
+     *
+     * @param buffer Bytes of the file.
+     * @return True if the bytes may contain a test annotation.
+     */
+    static boolean scan(final ByteBuffer buffer) {
+        final int limit = buffer.limit();
+        boolean found = false;
+        for (int pos = 0; !found && pos < limit; ++pos) {
+            final byte current = buffer.get(pos);
+            if (current == '\\' && pos + 1 < limit && buffer.get(pos + 1) == 'u') {
+                found = true;
+            } else if (current == '@') {
+                found = MayContainTests.annotation(buffer, pos + 1);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Check whether the annotation name starting at the position is a test annotation.
+     * The name can be qualified, only its last segment is compared.
+     * Comments inside the annotation name are too rare to parse them here,
+     * so such annotations are always accepted.
+     *
+     * @param buffer Bytes of the file.
+     * @param start Position right after the "@" sign.
+     * @return True if the annotation may be a test annotation.
+     */
+    private static boolean annotation(final ByteBuffer buffer, final int start) {
+        final int limit = buffer.limit();
+        int pos = MayContainTests.spaces(buffer, start);
+        int first = pos;
+        int last = pos;
+        boolean comment = false;
+        boolean next = true;
+        while (next) {
+            if (pos < limit && buffer.get(pos) == '/') {
+                comment = true;
+                next = false;
+            } else {
+                first = pos;
+                while (pos < limit && MayContainTests.identifier(buffer.get(pos))) {
+                    ++pos;
+                }
+                last = pos;
+                pos = MayContainTests.spaces(buffer, pos);
+                if (pos < limit && buffer.get(pos) == '.') {
+                    pos = MayContainTests.spaces(buffer, pos + 1);
+                } else {
+                    next = false;
+                }
+            }
+        }
+        return comment || MayContainTests.isTest(buffer, first, last);
+    }
+
+    /**
+     * Check whether the identifier is one of test annotations.
+     *
+     * @param buffer Bytes of the file.
+     * @param first Start of the identifier, inclusive.
+     * @param last End of the identifier, exclusive.
+     * @return True if the identifier is a name of a test annotation.
+     */
+    private static boolean isTest(final ByteBuffer buffer, final int first, final int last) {
+        boolean result = false;
+        for (final byte[] name : MayContainTests.ANNOTATIONS) {
+            if (last - first == name.length) {
+                boolean same = true;
+                for (int idx = 0; same && idx < name.length; ++idx) {
+                    same = buffer.get(first + idx) == name[idx];
+                }
+                result = result || same;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Skip whitespaces.
+     *
+     * @param buffer Bytes of the file.
+     * @param start Start position.
+     * @return Position of the first non-whitespace byte.
+     */
+    private static int spaces(final ByteBuffer buffer, final int start) {
+        int pos = start;
+        while (pos < buffer.limit() && Character.isWhitespace(buffer.get(pos))) {
+            ++pos;
+        }
+        return pos;
+    }
+
+    /**
+     * Whether the byte can be a part of java identifier.
+     * All non-ASCII bytes are treated as identifier parts.
+     *
+     * @param current The byte.
+     * @return True if the byte can be a part of identifier.
+     */
+    private static boolean identifier(final byte current) {
+        return current < 0 || Character.isJavaIdentifierPart((char) current);
+    }
+}
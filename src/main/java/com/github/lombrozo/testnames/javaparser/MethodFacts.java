@@ -0,0 +1,164 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.stmt.ExpressionStmt;
+import com.github.lombrozo.testnames.Assertion;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Facts about a test method.
+ * All the facts are collected during a single traversal of the method,
+ * so rules that check assertions, line hitters and mocks of the same method
+ * don't walk its body again and again.
+ *
+ * @since 1.5
+ */
+final class MethodFacts {
+
+    /**
+     * The name of the method.
+     */
+    private final String name;
+
+    /**
+     * Whether the method has a body.
+     */
+    private final boolean body;
+
+    /**
+     * Assertions of the method.
+     */
+    private final Collection<Assertion> assertions;
+
+    /**
+     * Expression statements of the method.
+     */
+    private final Collection<String> statements;
+
+    /**
+     * Ctor.
+     * @param method The method declaration.
+     */
+    MethodFacts(final MethodDeclaration method) {
+        this(method, method.findAll(ExpressionStmt.class));
+    }
+
+    /**
+     * Ctor.
+     * @param method The method declaration.
+     * @param all All expression statements of the method.
+     */
+    private MethodFacts(final MethodDeclaration method, final List<ExpressionStmt> all) {
+        this(
+            method.getNameAsString(),
+            method.getBody().isPresent(),
+            MethodFacts.assertions(all),
+            MethodFacts.statements(all)
+        );
+    }
+
+    /**
+     * Primary ctor.
+     * @param name The name of the method.
+     * @param body Whether the method has a body.
+     * @param assertions Assertions of the method.
+     * @param statements Expression statements of the method.
+     * @checkstyle ParameterNumberCheck (6 lines)
+     */
+    private MethodFacts(
+        final String name,
+        final boolean body,
+        final Collection<Assertion> assertions,
+        final Collection<String> statements
+    ) {
+        this.name = name;
+        this.body = body;
+        this.assertions = assertions;
+        this.statements = statements;
+    }
+
+    /**
+     * Assertions of the method.
+     * @return Unmodifiable collection of assertions.
+     */
+    Collection<Assertion> assertions() {
+        if (!this.body) {
+            throw new IllegalStateException(
+                String.format(
+                    "The method %s has to have body, otherwise it is not a method",
+                    this.name
+                )
+            );
+        }
+        return this.assertions;
+    }
+
+    /**
+     * Expression statements of the method.
+     * @return Unmodifiable collection of statements.
+     */
+    Collection<String> statements() {
+        return this.statements;
+    }
+
+    /**
+     * Assertions among the statements.
+     * @param all All expression statements of the method.
+     * @return Unmodifiable list of assertions.
+     */
+    private static Collection<Assertion> assertions(final List<ExpressionStmt> all) {
+        final List<Assertion> result = new ArrayList<>(0);
+        for (final ExpressionStmt statement : all) {
+            final Expression expression = statement.getExpression();
+            if (expression.isMethodCallExpr()) {
+                final JavaParserAssertion assertion = new JavaParserAssertion(
+                    expression.asMethodCallExpr()
+                );
+                if (assertion.isAssertion()) {
+                    result.add(assertion);
+                }
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Text of the statements.
+     * @param all All expression statements of the method.
+     * @return Unmodifiable list of statements.
+     */
+    private static Collection<String> statements(final List<ExpressionStmt> all) {
+        final List<String> result = new ArrayList<>(all.size());
+        for (final ExpressionStmt statement : all) {
+            result.add(statement.toString());
+        }
+        return Collections.unmodifiableList(result);
+    }
+}
@@ -0,0 +1,528 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import com.github.lombrozo.testnames.RuleName;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Scanner of class and method declarations.
+ * The scanner reads tokens of a Java source and finds the package, imports,
+ * the header of the first top-level type and the headers of its methods
+ * together with their annotations. It doesn't build an AST and skips bodies
+ * of methods, so it's much cheaper than parsing when only names are needed.
+ * The scanner is stateful, each instance scans a source only once.
+ *
+ * @since 1.5
+ */
+@SuppressWarnings("PMD.TooManyFields")
+final class NameScanner {
+
+    /**
+     * Keywords that start a type declaration.
+     */
+    private static final Set<String> TYPES = Collections.unmodifiableSet(
+        new HashSet<>(Arrays.asList("class", "interface", "enum", "record"))
+    );
+
+    /**
+     * Modifiers of members.
+     */
+    private static final Set<String> MODIFIERS = Collections.unmodifiableSet(
+        new HashSet<>(
+            Arrays.asList(
+                "public", "protected", "private", "static", "final", "abstract",
+                "synchronized", "native", "default", "strictfp", "transient", "volatile"
+            )
+        )
+    );
+
+    /**
+     * Annotations of test methods.
+     */
+    private static final Set<String> TESTS = Collections.unmodifiableSet(
+        new HashSet<>(Arrays.asList("Test", "ParameterizedTest"))
+    );
+
+    /**
+     * Tokens of the source.
+     */
+    private final JavaTokens tokens;
+
+    /**
+     * Imports of the source.
+     */
+    private final List<String> imports;
+
+    /**
+     * Names of extended types of the class.
+     */
+    private final List<String> extended;
+
+    /**
+     * Names of implemented types of the class.
+     */
+    private final List<String> implemented;
+
+    /**
+     * Methods of the class.
+     */
+    private final List<ScannedMethod> methods;
+
+    /**
+     * Header of the current member or type.
+     */
+    private final Header header;
+
+    /**
+     * The package.
+     */
+    private String pckg;
+
+    /**
+     * Keyword of the class type, empty until the class is found.
+     */
+    private String kind;
+
+    /**
+     * Simple name of the class.
+     */
+    private String name;
+
+    /**
+     * Rules suppressed for the class.
+     */
+    private Collection<String> suppressed;
+
+    /**
+     * Depth of curly braces.
+     */
+    private int depth;
+
+    /**
+     * Whether the body of the class is opened.
+     */
+    private boolean body;
+
+    /**
+     * Whether the enum constants are being read.
+     */
+    private boolean constants;
+
+    /**
+     * Ctor.
+     * @param source Java source.
+     */
+    NameScanner(final String source) {
+        this(new JavaTokens(source));
+    }
+
+    /**
+     * Primary ctor.
+     * @param tokens Tokens of the source.
+     */
+    NameScanner(final JavaTokens tokens) {
+        this.tokens = tokens;
+        this.imports = new ArrayList<>(0);
+        this.extended = new ArrayList<>(1);
+        this.implemented = new ArrayList<>(0);
+        this.methods = new ArrayList<>(0);
+        this.header = new Header();
+        this.pckg = "";
+        this.kind = "";
+        this.name = "";
+        this.suppressed = Collections.emptyList();
+    }
+
+    /**
+     * Scan the source.
+     * Scanning stops right after the body of the first top-level type.
+     * @return Declarations of the class.
+     */
+    ScannedClass scan() {
+        int current = this.tokens.next();
+        boolean closed = false;
+        while (current != JavaTokens.END && !closed) {
+            if (this.tokens.is('{')) {
+                this.depth += 1;
+                current = this.tokens.next();
+            } else if (this.tokens.is('}')) {
+                this.depth -= 1;
+                closed = this.body && this.depth == 0;
+                if (this.depth == 1) {
+                    this.header.reset();
+                }
+                current = this.tokens.next();
+            } else if (this.depth == 0) {
+                current = this.top();
+            } else if (this.depth == 1 && this.body) {
+                current = this.member();
+            } else {
+                current = this.tokens.next();
+            }
+        }
+        return new ScannedClass(
+            this.pckg,
+            this.kind,
+            Collections.unmodifiableList(this.extended),
+            Collections.unmodifiableList(this.implemented),
+            Collections.unmodifiableList(this.imports),
+            this.suppressed,
+            Collections.unmodifiableList(this.methods)
+        );
+    }
+
+    /**
+     * Handle the current token outside of any type.
+     * @return Kind of the next token.
+     */
+    private int top() {
+        final int res;
+        if (this.tokens.is('@')) {
+            this.tokens.next();
+            if (this.tokens.is("interface")) {
+                res = this.declaration("@interface");
+            } else {
+                res = this.annotation();
+            }
+        } else if (this.tokens.is("package")) {
+            this.tokens.next();
+            this.pckg = this.qualified(Collections.emptySet());
+            this.header.reset();
+            res = this.tokens.next();
+        } else if (this.tokens.is("import")) {
+            this.tokens.next();
+            this.imports.add(this.qualified(Collections.singleton("static")));
+            this.header.reset();
+            res = this.tokens.next();
+        } else if (this.kind.isEmpty() && this.tokens.kind() == JavaTokens.WORD
+            && NameScanner.TYPES.contains(this.tokens.text())) {
+            res = this.declaration(this.tokens.text());
+        } else {
+            res = this.tokens.next();
+        }
+        return res;
+    }
+
+    /**
+     * Read the header of the class up to its body.
+     * @param keyword The keyword of the type.
+     * @return Kind of the next token, which is the opening brace of the body.
+     */
+    private int declaration(final String keyword) {
+        this.kind = keyword;
+        this.suppressed = this.header.suppressed();
+        this.header.reset();
+        this.tokens.next();
+        this.name = this.tokens.text();
+        this.constants = "enum".equals(keyword);
+        List<String> names = new ArrayList<>(0);
+        final StringBuilder type = new StringBuilder(0);
+        int angle = 0;
+        int current = this.tokens.next();
+        while (current != JavaTokens.END && !this.tokens.is('{')) {
+            if (this.tokens.is('<')) {
+                angle += 1;
+            } else if (this.tokens.is('>')) {
+                angle -= 1;
+            } else if (this.tokens.is('(')) {
+                this.parentheses();
+            } else if (this.tokens.is('@')) {
+                this.tokens.next();
+                this.qualified(Collections.emptySet());
+                if (this.tokens.peek('(')) {
+                    this.tokens.next();
+                    this.parentheses();
+                }
+            } else if (angle == 0 && this.tokens.is("extends")) {
+                NameScanner.flush(type, names);
+                names = this.extended;
+            } else if (angle == 0 && this.tokens.is("implements")) {
+                NameScanner.flush(type, names);
+                names = this.implemented;
+            } else if (angle == 0 && this.tokens.is("permits")) {
+                NameScanner.flush(type, names);
+                names = new ArrayList<>(0);
+            } else if (angle == 0 && this.tokens.is(',')) {
+                NameScanner.flush(type, names);
+            } else if (angle == 0 && this.tokens.is('.')) {
+                type.append('.');
+            } else if (angle == 0 && current == JavaTokens.WORD) {
+                type.append(this.tokens.text());
+            }
+            current = this.tokens.next();
+        }
+        NameScanner.flush(type, names);
+        this.body = true;
+        return current;
+    }
+
+    /**
+     * Handle the current token in the body of the class.
+     * @return Kind of the next token.
+     */
+    private int member() {
+        final int res;
+        if (this.constants) {
+            if (this.tokens.is(';')) {
+                this.constants = false;
+            } else if (this.tokens.is('(')) {
+                this.parentheses();
+            }
+            res = this.tokens.next();
+        } else if (this.tokens.is('@')) {
+            this.tokens.next();
+            if (this.tokens.is("interface")) {
+                this.header.nested = true;
+                res = this.tokens.next();
+            } else {
+                res = this.annotation();
+            }
+        } else if (this.tokens.is('(')) {
+            this.method();
+            this.parentheses();
+            res = this.tokens.next();
+        } else {
+            this.header.accept(this.tokens);
+            res = this.tokens.next();
+        }
+        return res;
+    }
+
+    /**
+     * Register a method once its parameters are found.
+     * Constructors and parentheses in field initializers are skipped.
+     */
+    private void method() {
+        final Header head = this.header;
+        if (!head.field && !head.nested && !head.declared && head.angle == 0) {
+            head.declared = true;
+            if (head.words > 1 || !head.last.equals(this.name)) {
+                this.methods.add(
+                    new ScannedMethod(
+                        head.last,
+                        !head.hidden
+                            && head.annotations.stream().anyMatch(NameScanner.TESTS::contains),
+                        head.suppressed()
+                    )
+                );
+            }
+        }
+    }
+
+    /**
+     * Read the annotation, the current token is right after '@'.
+     * The annotation is added to the header of the current member or type.
+     * @return Kind of the next token.
+     */
+    private int annotation() {
+        this.header.annotations.add(this.qualified(Collections.emptySet()));
+        int current = this.tokens.next();
+        if (this.tokens.is('(')) {
+            final List<String> values = new ArrayList<>(1);
+            boolean single = true;
+            int level = 1;
+            while (level > 0 && current != JavaTokens.END) {
+                current = this.tokens.next();
+                if (this.tokens.is('(')) {
+                    level += 1;
+                } else if (this.tokens.is(')')) {
+                    level -= 1;
+                } else if (level == 1 && this.tokens.is('=')) {
+                    single = false;
+                } else if (level == 1 && current == JavaTokens.TEXT) {
+                    values.add(this.tokens.text());
+                }
+            }
+            if (single) {
+                this.header.values.addAll(values);
+            }
+            current = this.tokens.next();
+        }
+        return current;
+    }
+
+    /**
+     * Read a qualified name starting from the current token.
+     * The current token becomes the last token of the name.
+     * @param skipped Words that aren't the parts of the name.
+     * @return The name without wildcards.
+     */
+    private String qualified(final Set<String> skipped) {
+        if (this.tokens.kind() == JavaTokens.WORD && skipped.contains(this.tokens.text())) {
+            this.tokens.next();
+        }
+        final StringBuilder res = new StringBuilder(this.tokens.text());
+        while (this.tokens.peek('.')) {
+            this.tokens.next();
+            if (this.tokens.next() == JavaTokens.WORD) {
+                res.append('.').append(this.tokens.text());
+            }
+        }
+        return res.toString();
+    }
+
+    /**
+     * Skip balanced parentheses, the current token is the opening one.
+     * The current token becomes the closing one.
+     */
+    private void parentheses() {
+        int level = 1;
+        while (level > 0 && this.tokens.next() != JavaTokens.END) {
+            if (this.tokens.is('(')) {
+                level += 1;
+            } else if (this.tokens.is(')')) {
+                level -= 1;
+            }
+        }
+    }
+
+    /**
+     * Add the collected type name to the names and clear it.
+     * @param type The collected name.
+     * @param names The names.
+     */
+    private static void flush(final StringBuilder type, final List<String> names) {
+        if (type.length() > 0) {
+            names.add(type.toString());
+            type.setLength(0);
+        }
+    }
+
+    /**
+     * Header of a member or a type.
+     * Collected from the start of the declaration up to its parameters.
+     *
+     * @since 1.5
+     */
+    private static final class Header {
+
+        /**
+         * Names of annotations.
+         */
+        private final List<String> annotations = new ArrayList<>(1);
+
+        /**
+         * Text values of single-member annotations.
+         */
+        private final List<String> values = new ArrayList<>(0);
+
+        /**
+         * The number of words that aren't modifiers or type arguments.
+         */
+        private int words;
+
+        /**
+         * The last word.
+         */
+        private String last = "";
+
+        /**
+         * Depth of angle brackets.
+         */
+        private int angle;
+
+        /**
+         * Whether the member is private.
+         */
+        private boolean hidden;
+
+        /**
+         * Whether the member is a field with an initializer.
+         */
+        private boolean field;
+
+        /**
+         * Whether the member is a nested type.
+         */
+        private boolean nested;
+
+        /**
+         * Whether the parameters of the member are already found.
+         */
+        private boolean declared;
+
+        /**
+         * Take the token of the header into account.
+         * @param tokens Tokens with the current token.
+         */
+        void accept(final JavaTokens tokens) {
+            if (tokens.is(';')) {
+                this.reset();
+            } else if (tokens.is('=')) {
+                this.field = true;
+            } else if (tokens.is('<')) {
+                this.angle += 1;
+            } else if (tokens.is('>')) {
+                this.angle -= 1;
+            } else if (tokens.kind() == JavaTokens.WORD && this.angle == 0) {
+                final String word = tokens.text();
+                if (NameScanner.MODIFIERS.contains(word)) {
+                    this.hidden = this.hidden || "private".equals(word);
+                } else if (this.words == 0 && NameScanner.TYPES.contains(word)) {
+                    this.nested = true;
+                } else {
+                    this.words += 1;
+                    this.last = word;
+                }
+            }
+        }
+
+        /**
+         * Rules suppressed by the annotations of the header.
+         * @return Suppressed rules without the prefix.
+         */
+        Collection<String> suppressed() {
+            final List<String> res = new ArrayList<>(0);
+            for (final String value : this.values) {
+                final RuleName rule = new RuleName(value);
+                if (rule.hasPrefix()) {
+                    res.add(rule.withoutPrefix());
+                }
+            }
+            return Collections.unmodifiableList(res);
+        }
+
+        /**
+         * Start a new header.
+         */
+        void reset() {
+            this.annotations.clear();
+            this.values.clear();
+            this.words = 0;
+            this.last = "";
+            this.angle = 0;
+            this.hidden = false;
+            this.field = false;
+            this.nested = false;
+            this.declared = false;
+        }
+    }
+}
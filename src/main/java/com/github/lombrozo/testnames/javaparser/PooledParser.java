@@ -0,0 +1,114 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParseProblemException;
+import com.github.javaparser.ParseResult;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.resolution.SymbolResolver;
+import java.io.InputStream;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Pool of Java parsers.
+ * A thread takes a free {@link JavaParser} instance with its own
+ * {@link ParserConfiguration} and returns it after parsing, so the parsers
+ * are reused between files, but never used by two threads at once. It
+ * allows running the plugin in parallel Maven builds without races on the
+ * global {@link com.github.javaparser.StaticJavaParser} configuration.
+ * The pool belongs to a single project, so the parsers and the resolver
+ * are released together with the project when the run ends.
+ *
+ * @since 1.5
+ */
+final class PooledParser {
+
+    /**
+     * Symbol resolver to attach to parsed compilation units.
+     */
+    private final SymbolResolver resolver;
+
+    /**
+     * Free parsers.
+     */
+    private final Queue<JavaParser> parsers;
+
+    /**
+     * Ctor.
+     *
+     * @param resolver Symbol resolver to attach to parsed compilation units.
+     */
+    PooledParser(final SymbolResolver resolver) {
+        this(resolver, new ConcurrentLinkedQueue<>());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param resolver Symbol resolver to attach to parsed compilation units.
+     * @param parsers Free parsers.
+     */
+    PooledParser(final SymbolResolver resolver, final Queue<JavaParser> parsers) {
+        this.resolver = resolver;
+        this.parsers = parsers;
+    }
+
+    /**
+     * Parse java by input stream.
+     *
+     * @param stream Input stream.
+     * @return Compilation unit.
+     */
+    CompilationUnit parse(final InputStream stream) {
+        final JavaParser parser = Optional.ofNullable(this.parsers.poll())
+            .orElseGet(this::parser);
+        final ParseResult<CompilationUnit> result;
+        try {
+            result = parser.parse(stream);
+        } finally {
+            this.parsers.offer(parser);
+        }
+        if (!result.isSuccessful() || !result.getResult().isPresent()) {
+            throw new ParseProblemException(result.getProblems());
+        }
+        return result.getResult().get();
+    }
+
+    /**
+     * New parser that attaches the resolver to parsed compilation units.
+     *
+     * @return Parser.
+     */
+    private JavaParser parser() {
+        return new JavaParser(
+            new ParserConfiguration()
+                .setLanguageLevel(ParserConfiguration.LanguageLevel.JAVA_17)
+                .setSymbolResolver(this.resolver)
+        );
+    }
+}
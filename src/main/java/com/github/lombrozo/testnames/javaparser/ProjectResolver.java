@@ -0,0 +1,282 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.type.Type;
+import com.github.javaparser.resolution.SymbolResolver;
+import com.github.javaparser.resolution.TypeSolver;
+import com.github.javaparser.resolution.declarations.ResolvedReferenceTypeDeclaration;
+import com.github.javaparser.resolution.types.ResolvedType;
+import com.github.javaparser.symbolsolver.JavaSymbolSolver;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.ClassLoaderTypeSolver;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.CombinedTypeSolver;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.JavaParserTypeSolver;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.ReflectionTypeSolver;
+import com.github.lombrozo.testnames.Flight;
+import com.github.lombrozo.testnames.Profile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * Symbol resolver of a project.
+ * The resolver is built once per project root and shared by all the classes
+ * of the project, so the caches of the underlying type solvers stay warm
+ * during the entire run.
+ * Type solvers of JavaParser parse sources and cache their results, they
+ * are not thread-safe and each of them belongs to a single combined solver,
+ * that is why each thread gets its own solvers. Symbols are resolved in
+ * parallel, without locks, and each thread warms its caches only once.
+ * Only resolutions requested by the plugin are counted and timed, nested
+ * resolutions that JavaParser makes while resolving a symbol are not.
+ *
+ * @since 1.5
+ */
+final class ProjectResolver implements SymbolResolver {
+
+    /**
+     * Logger.
+     */
+    private static final Logger LOG = Logger.getLogger(ProjectResolver.class.getName());
+
+    /**
+     * Events for JDK Flight Recorder.
+     */
+    private static final Flight FLIGHT = new Flight();
+
+    /**
+     * Resolvers of the threads.
+     */
+    private final ThreadLocal<Worker> workers;
+
+    /**
+     * The number of resolved symbols.
+     */
+    private final AtomicLong symbols;
+
+    /**
+     * The profile of the run.
+     */
+    private final Profile profile;
+
+    /**
+     * Ctor.
+     *
+     * @param main The main path where production classes are placed.
+     * @param test The test path where test classes are placed.
+     */
+    ProjectResolver(final Path main, final Path test) {
+        this(main, test, new Profile.Silent());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param main The main path where production classes are placed.
+     * @param test The test path where test classes are placed.
+     * @param profile The profile of the run.
+     */
+    ProjectResolver(final Path main, final Path test, final Profile profile) {
+        this(main, test, Thread.currentThread().getContextClassLoader(), profile);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param main The main path where production classes are placed.
+     * @param test The test path where test classes are placed.
+     * @param loader The class loader of compiled classes.
+     * @param profile The profile of the run.
+     * @checkstyle ParameterNumberCheck (7 lines)
+     */
+    private ProjectResolver(
+        final Path main,
+        final Path test,
+        final ClassLoader loader,
+        final Profile profile
+    ) {
+        this(
+            ThreadLocal.withInitial(
+                () -> new Worker(ProjectResolver.solver(main, test, loader))
+            ),
+            profile
+        );
+    }
+
+    /**
+     * Primary ctor.
+     *
+     * @param workers Resolvers of the threads.
+     * @param profile The profile of the run.
+     */
+    private ProjectResolver(final ThreadLocal<Worker> workers, final Profile profile) {
+        this.workers = workers;
+        this.symbols = new AtomicLong(0L);
+        this.profile = profile;
+    }
+
+    /**
+     * The number of symbols resolved so far.
+     *
+     * @return The number of resolutions.
+     */
+    long resolutions() {
+        return this.symbols.get();
+    }
+
+    @Override
+    public <T> T resolveDeclaration(final Node node, final Class<T> type) {
+        return this.resolved(node, solver -> solver.resolveDeclaration(node, type));
+    }
+
+    @Override
+    public <T> T toResolvedType(final Type type, final Class<T> result) {
+        return this.workers.get().apply(solver -> solver.toResolvedType(type, result));
+    }
+
+    @Override
+    public ResolvedType calculateType(final Expression expression) {
+        return this.resolved(expression, solver -> solver.calculateType(expression));
+    }
+
+    @Override
+    public ResolvedReferenceTypeDeclaration toTypeDeclaration(final Node node) {
+        return this.workers.get().apply(solver -> solver.toTypeDeclaration(node));
+    }
+
+    /**
+     * Resolve the symbol by the solver of the current thread.
+     * The resolution is counted and timed only if it isn't nested.
+     *
+     * @param node The node to resolve.
+     * @param call The resolution.
+     * @param <T> The type of the result.
+     * @return The result of the resolution.
+     */
+    private <T> T resolved(final Node node, final Function<SymbolResolver, T> call) {
+        final Worker worker = this.workers.get();
+        final T res;
+        if (worker.busy()) {
+            res = worker.apply(call);
+        } else {
+            final long count = this.symbols.incrementAndGet();
+            ProjectResolver.LOG.fine(
+                () -> String.format(
+                    "Symbol '%s' is resolved, %d resolutions so far", node, count
+                )
+            );
+            final long start = this.profile.start();
+            final Object flight = ProjectResolver.FLIGHT.resolving();
+            res = worker.apply(call);
+            ProjectResolver.FLIGHT.resolved(node, flight);
+            this.profile.stop("resolution", start);
+        }
+        return res;
+    }
+
+    /**
+     * Build the resolver of the project sources for a single thread.
+     *
+     * @param main The main path where production classes are placed.
+     * @param test The test path where test classes are placed.
+     * @param loader The class loader of compiled classes.
+     * @return Symbol resolver.
+     */
+    private static SymbolResolver solver(
+        final Path main,
+        final Path test,
+        final ClassLoader loader
+    ) {
+        final List<TypeSolver> solvers = new ArrayList<>(0);
+        solvers.add(new ReflectionTypeSolver());
+        solvers.add(new ClassLoaderTypeSolver(loader));
+        if (Files.exists(main)) {
+            solvers.add(new JavaParserTypeSolver(main));
+        }
+        if (Files.exists(test)) {
+            solvers.add(new JavaParserTypeSolver(test));
+        }
+        return new JavaSymbolSolver(new CombinedTypeSolver(solvers.toArray(new TypeSolver[0])));
+    }
+
+    /**
+     * Resolver of a single thread.
+     * It knows whether a resolution is in progress, so nested resolutions
+     * can be told apart from the ones requested by the plugin.
+     *
+     * @since 1.5
+     */
+    private static final class Worker {
+
+        /**
+         * The resolver of the thread.
+         */
+        private final SymbolResolver solver;
+
+        /**
+         * The number of resolutions in progress.
+         */
+        private int depth;
+
+        /**
+         * Ctor.
+         *
+         * @param solver The resolver of the thread.
+         */
+        Worker(final SymbolResolver solver) {
+            this.solver = solver;
+        }
+
+        /**
+         * Whether a resolution is in progress.
+         *
+         * @return True if the resolver is busy.
+         */
+        boolean busy() {
+            return this.depth > 0;
+        }
+
+        /**
+         * Apply the resolver.
+         *
+         * @param call The resolution.
+         * @param <T> The type of the result.
+         * @return The result of the resolution.
+         */
+        <T> T apply(final Function<SymbolResolver, T> call) {
+            this.depth += 1;
+            try {
+                return call.apply(this.solver);
+            } finally {
+                this.depth -= 1;
+            }
+        }
+    }
+}
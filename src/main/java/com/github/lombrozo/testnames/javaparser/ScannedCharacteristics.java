@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import com.github.lombrozo.testnames.JUnitExtension;
+import com.github.lombrozo.testnames.TestClassCharacteristics;
+import java.util.Optional;
+
+/**
+ * Characteristics of a scanned test class.
+ *
+ * @since 1.5
+ */
+final class ScannedCharacteristics implements TestClassCharacteristics {
+
+    /**
+     * Scanned class.
+     */
+    private final ScannedClass klass;
+
+    /**
+     * Classes loaded during the run.
+     */
+    private final LoadedClasses classes;
+
+    /**
+     * Ctor.
+     * @param klass Scanned class.
+     * @param classes Classes loaded during the run.
+     */
+    ScannedCharacteristics(final ScannedClass klass, final LoadedClasses classes) {
+        this.klass = klass;
+        this.classes = classes;
+    }
+
+    @Override
+    public boolean isJUnitExtension() {
+        return this.klass.implemented().stream()
+            .map(name -> this.classes.load(name, this.klass.imports()))
+            .filter(Optional::isPresent)
+            .map(Optional::get)
+            .map(JUnitExtension::new)
+            .anyMatch(JUnitExtension::isJUnitExtension);
+    }
+
+    @Override
+    public boolean isIntegrationTest() {
+        final String pckg = this.klass.pckg();
+        return pckg.endsWith(".it") || "it".equals(pckg);
+    }
+
+    @Override
+    public int numberOfTests() {
+        return (int) this.klass.methods().stream().filter(ScannedMethod::isTest).count();
+    }
+
+    @Override
+    public int numberOfMethods() {
+        return this.klass.methods().size();
+    }
+
+    @Override
+    public String parent() {
+        return this.klass.superclass();
+    }
+}
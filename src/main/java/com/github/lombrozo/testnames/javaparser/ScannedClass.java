@@ -0,0 +1,173 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Declarations of a Java class found by {@link NameScanner}.
+ * Only the header of the first top-level type and the headers of its
+ * methods are known, bodies of methods aren't parsed at all.
+ *
+ * @since 1.5
+ * @checkstyle ParameterNumberCheck (500 lines)
+ */
+final class ScannedClass {
+
+    /**
+     * The default superclass.
+     */
+    private static final String OBJECT = "java.lang.Object";
+
+    /**
+     * The package, empty if the class is in the default package.
+     */
+    private final String pckg;
+
+    /**
+     * The keyword of the type: class, interface, enum, record or @interface.
+     * Empty if the source doesn't declare any type.
+     */
+    private final String kind;
+
+    /**
+     * The names of extended types.
+     */
+    private final List<String> extended;
+
+    /**
+     * The names of implemented types.
+     */
+    private final Collection<String> implemented;
+
+    /**
+     * All the imports.
+     */
+    private final Collection<String> imports;
+
+    /**
+     * Rules suppressed for the class.
+     */
+    private final Collection<String> suppressed;
+
+    /**
+     * Methods in the order of declaration.
+     */
+    private final List<ScannedMethod> methods;
+
+    /**
+     * Ctor.
+     * @param pckg The package, empty if the class is in the default package.
+     * @param kind The keyword of the type.
+     * @param extended The names of extended types.
+     * @param implemented The names of implemented types.
+     * @param imports All the imports.
+     * @param suppressed Rules suppressed for the class.
+     * @param methods Methods in the order of declaration.
+     */
+    ScannedClass(
+        final String pckg,
+        final String kind,
+        final List<String> extended,
+        final Collection<String> implemented,
+        final Collection<String> imports,
+        final Collection<String> suppressed,
+        final List<ScannedMethod> methods
+    ) {
+        this.pckg = pckg;
+        this.kind = kind;
+        this.extended = extended;
+        this.implemented = implemented;
+        this.imports = imports;
+        this.suppressed = suppressed;
+        this.methods = methods;
+    }
+
+    /**
+     * Whether the class is a test.
+     * @return True if the class is a test.
+     */
+    boolean isTest() {
+        return !this.kind.isEmpty()
+            && !"interface".equals(this.kind)
+            && !"@interface".equals(this.kind)
+            && this.methods.stream().anyMatch(ScannedMethod::isTest);
+    }
+
+    /**
+     * The package of the class.
+     * @return The package, empty if the class is in the default package.
+     */
+    String pckg() {
+        return this.pckg;
+    }
+
+    /**
+     * The simple name of the superclass, like {@link JavaParserClass#superclass()}.
+     * @return The name of the superclass.
+     */
+    String superclass() {
+        final String res;
+        if ("class".equals(this.kind) && !this.extended.isEmpty()) {
+            final String name = this.extended.get(0);
+            res = name.substring(name.lastIndexOf('.') + 1);
+        } else {
+            res = ScannedClass.OBJECT;
+        }
+        return res;
+    }
+
+    /**
+     * The names of implemented types as they are written in the source.
+     * @return The names of implemented types.
+     */
+    Collection<String> implemented() {
+        return this.implemented;
+    }
+
+    /**
+     * All the imports.
+     * @return The imports.
+     */
+    Collection<String> imports() {
+        return this.imports;
+    }
+
+    /**
+     * Rules suppressed for the class.
+     * @return Suppressed rules without the prefix.
+     */
+    Collection<String> suppressed() {
+        return this.suppressed;
+    }
+
+    /**
+     * Methods in the order of declaration.
+     * @return Methods.
+     */
+    List<ScannedMethod> methods() {
+        return this.methods;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import java.util.Collection;
+
+/**
+ * Method declaration found by {@link NameScanner}.
+ *
+ * @since 1.5
+ */
+final class ScannedMethod {
+
+    /**
+     * The name of the method.
+     */
+    private final String name;
+
+    /**
+     * Whether the method is a test: it isn't private and has a test annotation.
+     */
+    private final boolean test;
+
+    /**
+     * Rules suppressed for the method.
+     */
+    private final Collection<String> suppressed;
+
+    /**
+     * Ctor.
+     * @param name The name of the method.
+     * @param test Whether the method is a test.
+     * @param suppressed Rules suppressed for the method.
+     */
+    ScannedMethod(final String name, final boolean test, final Collection<String> suppressed) {
+        this.name = name;
+        this.test = test;
+        this.suppressed = suppressed;
+    }
+
+    /**
+     * The name of the method.
+     * @return The name.
+     */
+    String name() {
+        return this.name;
+    }
+
+    /**
+     * Whether the method is a test.
+     * @return True if the method is a test.
+     */
+    boolean isTest() {
+        return this.test;
+    }
+
+    /**
+     * Rules suppressed for the method.
+     * @return Suppressed rules without the prefix.
+     */
+    Collection<String> suppressed() {
+        return this.suppressed;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import com.github.lombrozo.testnames.Assertion;
+import com.github.lombrozo.testnames.TestCase;
+import com.github.lombrozo.testnames.TestClass;
+import java.util.Collection;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Test case that is only scanned for its name.
+ * Body of the test method isn't read, so its assertions and statements
+ * are unknown.
+ *
+ * @since 1.5
+ */
+final class ScannedTestCase implements TestCase {
+
+    /**
+     * Scanned method.
+     */
+    private final ScannedMethod method;
+
+    /**
+     * Parent class.
+     */
+    private final TestClass parent;
+
+    /**
+     * Ctor.
+     *
+     * @param method Scanned method.
+     * @param parent Parent class.
+     */
+    ScannedTestCase(final ScannedMethod method, final TestClass parent) {
+        this.method = method;
+        this.parent = parent;
+    }
+
+    @Override
+    public String name() {
+        return this.method.name();
+    }
+
+    @Override
+    public Collection<String> suppressed() {
+        return Stream.concat(
+            this.parent.suppressed().stream(),
+            this.method.suppressed().stream()
+        ).collect(Collectors.toSet());
+    }
+
+    @Override
+    public Collection<Assertion> assertions() {
+        throw new IllegalStateException(this.unknown("Assertions"));
+    }
+
+    @Override
+    public Collection<String> statements() {
+        throw new IllegalStateException(this.unknown("Statements"));
+    }
+
+    /**
+     * Message about unknown facts of the method body.
+     *
+     * @param facts The facts.
+     * @return The message.
+     */
+    private String unknown(final String facts) {
+        return String.format(
+            "%s of the method %s in %s are unknown, the method is only scanned for its name",
+            facts,
+            this.method.name(),
+            this.parent.path()
+        );
+    }
+}
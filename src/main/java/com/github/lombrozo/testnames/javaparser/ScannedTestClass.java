@@ -0,0 +1,184 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import com.github.lombrozo.testnames.Field;
+import com.github.lombrozo.testnames.TestCase;
+import com.github.lombrozo.testnames.TestClass;
+import com.github.lombrozo.testnames.TestClassCharacteristics;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.stream.Collectors;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Test class that is only scanned for names.
+ * The source is read by {@link NameScanner} without building an AST, so
+ * only names, annotations and headers of the class and its methods are
+ * known. Fields and bodies of test methods aren't available.
+ *
+ * @since 1.5
+ */
+final class ScannedTestClass implements TestClass {
+
+    /**
+     * Path to java class.
+     */
+    @SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
+    private final Path path;
+
+    /**
+     * Scanned class.
+     */
+    private final Unchecked<ScannedClass> scanned;
+
+    /**
+     * Test cases in the order of declaration, collected once on the first access.
+     */
+    private final Unchecked<Collection<TestCase>> cases;
+
+    /**
+     * Classes loaded during the run.
+     */
+    private final LoadedClasses classes;
+
+    /**
+     * Ctor.
+     *
+     * @param path Path to the class.
+     */
+    ScannedTestClass(final Path path) {
+        this(path, new LoadedClasses());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param path Path to the class.
+     * @param classes Classes loaded during the run.
+     */
+    ScannedTestClass(final Path path, final LoadedClasses classes) {
+        this(path, new Unchecked<>(new Sticky<>(() -> ScannedTestClass.scan(path))), classes);
+    }
+
+    /**
+     * Primary ctor.
+     *
+     * @param path Path to the class.
+     * @param scanned Scanned class.
+     * @param classes Classes loaded during the run.
+     */
+    private ScannedTestClass(
+        final Path path,
+        final Unchecked<ScannedClass> scanned,
+        final LoadedClasses classes
+    ) {
+        this.path = path;
+        this.scanned = scanned;
+        this.cases = new Unchecked<>(new Sticky<>(this::cases));
+        this.classes = classes;
+    }
+
+    @Override
+    public Collection<Field> fields() {
+        throw new IllegalStateException(
+            String.format(
+                "Fields of the class %s are unknown, the class is only scanned for names",
+                this.path
+            )
+        );
+    }
+
+    @Override
+    public String name() {
+        return this.path.getFileName().toString();
+    }
+
+    @Override
+    public Collection<TestCase> all() {
+        return this.cases.value();
+    }
+
+    @Override
+    public Path path() {
+        return this.path;
+    }
+
+    @Override
+    public Collection<String> suppressed() {
+        return this.scanned.value().suppressed();
+    }
+
+    @Override
+    public TestClassCharacteristics characteristics() {
+        return new ScannedCharacteristics(this.scanned.value(), this.classes);
+    }
+
+    /**
+     * Whether the class is a test.
+     *
+     * @return True if the class is a test.
+     */
+    boolean isTest() {
+        return this.scanned.value().isTest();
+    }
+
+    /**
+     * Test cases of the class.
+     *
+     * @return Unmodifiable list of test cases in the order of declaration.
+     */
+    private Collection<TestCase> cases() {
+        return Collections.unmodifiableList(
+            this.scanned.value().methods().stream()
+                .filter(ScannedMethod::isTest)
+                .map(method -> new ScannedTestCase(method, this))
+                .collect(Collectors.toList())
+        );
+    }
+
+    /**
+     * Scan Java class.
+     *
+     * @param path Path to the class.
+     * @return Scanned class.
+     */
+    private static ScannedClass scan(final Path path) {
+        try {
+            return new NameScanner(
+                new String(Files.readAllBytes(path), StandardCharsets.UTF_8)
+            ).scan();
+        } catch (final IOException ex) {
+            throw new IllegalStateException(
+                String.format("Can't read java file: %s", path.toAbsolutePath()),
+                ex
+            );
+        }
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.rules;
+
+import com.github.lombrozo.testnames.ComplaintSink;
+import com.github.lombrozo.testnames.Fact;
+import com.github.lombrozo.testnames.Parameters;
+import com.github.lombrozo.testnames.Profile;
+import com.github.lombrozo.testnames.Rule;
+import com.github.lombrozo.testnames.TestCase;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * All the checks of a test case.
+ * The checks are stateless and are built once per run, so checking of a
+ * test case doesn't create rule objects and their suppression wrappers.
+ *
+ * @since 1.5
+ */
+public final class CaseChecks {
+
+    /**
+     * ID of the rule that checks a test case as a whole.
+     */
+    private static final int CORRECT = Suppressions.id(
+        RuleCorrectTestCase.class.getSimpleName()
+    );
+
+    /**
+     * Rules suppressed for the entire project.
+     */
+    private final Suppressions global;
+
+    /**
+     * IDs of the checks in the registry of rules.
+     */
+    private final int[] ids;
+
+    /**
+     * The checks.
+     */
+    private final CaseCheck[] checks;
+
+    /**
+     * Facts read by the checks.
+     */
+    private final List<Set<Fact>> reads;
+
+    /**
+     * Names of the checks in the profile.
+     */
+    private final String[] names;
+
+    /**
+     * The profile of the run.
+     */
+    private final Profile profile;
+
+    /**
+     * Ctor.
+     * @param parameters Parameters to use for the checks.
+     */
+    public CaseChecks(final Parameters parameters) {
+        this(parameters, Suppressions.NONE);
+    }
+
+    /**
+     * Ctor.
+     * @param parameters Parameters to use for the checks.
+     * @param global Rules suppressed for the entire project.
+     */
+    public CaseChecks(final Parameters parameters, final Suppressions global) {
+        this(parameters, global, new Profile.Silent());
+    }
+
+    /**
+     * Ctor.
+     * @param parameters Parameters to use for the checks.
+     * @param global Rules suppressed for the entire project.
+     * @param profile The profile of the run.
+     */
+    public CaseChecks(
+        final Parameters parameters,
+        final Suppressions global,
+        final Profile profile
+    ) {
+        this(global, profile, parameters.intValue("maxNumberOfMocks").orElse(2));
+    }
+
+    /**
+     * Ctor.
+     * @param global Rules suppressed for the entire project.
+     * @param profile The profile of the run.
+     * @param mocks Allowed number of mocks.
+     */
+    private CaseChecks(final Suppressions global, final Profile profile, final int mocks) {
+        this(
+            global,
+            profile,
+            new Row(RuleNotCamelCase.NAME, RuleNotCamelCase.FACTS, RuleNotCamelCase::check),
+            new Row(
+                RuleNotContainsTestWord.NAME,
+                RuleNotContainsTestWord.FACTS,
+                RuleNotContainsTestWord::check
+            ),
+            new Row(RuleNotSpam.class, RuleNotSpam.FACTS, RuleNotSpam::check),
+            new Row(
+                RuleNotUsesSpecialCharacters.class,
+                RuleNotUsesSpecialCharacters.FACTS,
+                RuleNotUsesSpecialCharacters::check
+            ),
+            new Row(RulePresentTense.class, RulePresentTense.FACTS, RulePresentTense::check),
+            new Row(
+                RuleAssertionMessage.class,
+                RuleAssertionMessage.FACTS,
+                (test, names, sink) -> RuleAssertionMessage.check(test, sink)
+            ),
+            new Row(
+                LineHitterRule.class,
+                LineHitterRule.FACTS,
+                (test, names, sink) -> LineHitterRule.check(test, sink)
+            ),
+            new Row(
+                RuleTestCaseContainsMockery.class,
+                RuleTestCaseContainsMockery.FACTS,
+                (test, names, sink) -> RuleTestCaseContainsMockery.check(test, mocks, sink)
+            )
+        );
+    }
+
+    /**
+     * Primary ctor.
+     * @param global Rules suppressed for the entire project.
+     * @param profile The profile of the run.
+     * @param rows The checks with their names and facts.
+     */
+    private CaseChecks(final Suppressions global, final Profile profile, final Row... rows) {
+        this.global = global;
+        this.profile = profile;
+        this.names = Arrays.stream(rows).map(row -> row.name).toArray(String[]::new);
+        this.ids = CaseChecks.ids(this.names);
+        this.checks = Arrays.stream(rows).map(row -> row.check).toArray(CaseCheck[]::new);
+        this.reads = Arrays.stream(rows).map(row -> row.facts).collect(Collectors.toList());
+    }
+
+    /**
+     * Facts read by the checks that aren't suppressed for the entire project.
+     * @return The facts.
+     */
+    Set<Fact> facts() {
+        final Set<Fact> res = EnumSet.noneOf(Fact.class);
+        if (!this.global.has(CaseChecks.CORRECT)) {
+            for (int idx = 0; idx < this.ids.length; ++idx) {
+                if (!this.global.has(this.ids[idx])) {
+                    res.addAll(this.reads.get(idx));
+                }
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Check the test case with all the checks that aren't suppressed.
+     * @param test The test case
+     * @param sink The sink of complaints
+     */
+    void check(final TestCase test, final ComplaintSink sink) {
+        final Suppressions hidden = this.global.with(new Suppressions(test.suppressed()));
+        if (!hidden.has(CaseChecks.CORRECT)) {
+            final NameViolations names = new NameViolations(test.name());
+            for (int idx = 0; idx < this.checks.length; ++idx) {
+                if (!hidden.has(this.ids[idx])) {
+                    final long start = this.profile.start();
+                    this.checks[idx].check(test, names, sink);
+                    this.profile.stop(this.names[idx], start);
+                }
+            }
+        }
+    }
+
+    /**
+     * IDs of the rules in the registry.
+     * @param aliases Aliases of the rules.
+     * @return IDs.
+     */
+    private static int[] ids(final String... aliases) {
+        return Arrays.stream(aliases).mapToInt(Suppressions::id).toArray();
+    }
+
+    /**
+     * A check with its name and the facts it reads.
+     *
+     * @since 1.5
+     */
+    private static final class Row {
+
+        /**
+         * The name of the check, which is its alias in the registry of rules.
+         */
+        private final String name;
+
+        /**
+         * Facts read by the check.
+         */
+        private final Set<Fact> facts;
+
+        /**
+         * The check.
+         */
+        private final CaseCheck check;
+
+        /**
+         * Ctor.
+         * @param rule The class of the rule that performs the check.
+         * @param facts Facts read by the check.
+         * @param check The check.
+         */
+        Row(final Class<? extends Rule> rule, final Set<Fact> facts, final CaseCheck check) {
+            this(rule.getSimpleName(), facts, check);
+        }
+
+        /**
+         * Primary ctor.
+         * @param name The name of the check.
+         * @param facts Facts read by the check.
+         * @param check The check.
+         */
+        Row(final String name, final Set<Fact> facts, final CaseCheck check) {
+            this.name = name;
+            this.facts = facts;
+            this.check = check;
+        }
+    }
+}
@@ -25,12 +25,18 @@ package com.github.lombrozo.testnames.rules;
 
 import com.github.lombrozo.testnames.Assertion;
 import com.github.lombrozo.testnames.Complaint;
+import com.github.lombrozo.testnames.ComplaintSink;
+import com.github.lombrozo.testnames.Fact;
 import com.github.lombrozo.testnames.Rule;
 import com.github.lombrozo.testnames.TestCase;
 import com.github.lombrozo.testnames.complaints.ComplaintLinked;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * The rule checks if test case contains a "Line Hitter"
@@ -45,6 +51,13 @@ import java.util.List;
  */
 public final class LineHitterRule implements Rule {
 
+    /**
+     * Facts about test sources that the rule reads.
+     */
+    static final Set<Fact> FACTS = Collections.unmodifiableSet(
+        EnumSet.of(Fact.METHOD_BODIES)
+    );
+
     /**
      * The test case.
      */
@@ -64,30 +77,37 @@ public final class LineHitterRule implements Rule {
         return Arrays.asList("LineHitterRule");
     }
 
+    @Override
+    public Set<Fact> facts() {
+        return LineHitterRule.FACTS;
+    }
+
     @Override
     public Collection<Complaint> complaints() {
-        return new RuleConditional(
-            this::containsLineHitter,
-            new ComplaintLinked(
-                String.format(
-                    "Method '%s' contains line hitter anti-pattern",
-                    this.test.name()
-                ),
-                "Write valuable assertion for this test",
-                this.getClass(),
-                "line-hitter.md"
-            )
-        ).complaints();
+        final Collection<Complaint> result = new ArrayList<>(0);
+        LineHitterRule.check(this.test, result::add);
+        return result;
     }
 
     /**
-     * Just checks if collections contain line hitter.
+     * Check the test case.
      *
-     * @return True if contains line hitter
+     * @param test The test case
+     * @param sink The sink of complaints
      */
-    private Boolean containsLineHitter() {
-        return this.test.assertions()
-            .stream()
-            .anyMatch(Assertion::isLineHitter);
+    static void check(final TestCase test, final ComplaintSink sink) {
+        if (test.assertions().stream().anyMatch(Assertion::isLineHitter)) {
+            sink.accept(
+                new ComplaintLinked(
+                    String.format(
+                        "Method '%s' contains line hitter anti-pattern",
+                        test.name()
+                    ),
+                    "Write valuable assertion for this test",
+                    LineHitterRule.class,
+                    "line-hitter.md"
+                )
+            );
+        }
     }
 }
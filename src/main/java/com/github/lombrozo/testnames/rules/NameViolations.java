@@ -0,0 +1,153 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.rules;
+
+/**
+ * Violations of naming rules found in a test method name.
+ * The name is scanned only once and without copying, and all the
+ * violations are kept in a bitmask, so the naming rules of the same test case
+ * share a single scan.
+ *
+ * @since 1.5
+ */
+final class NameViolations {
+
+    /**
+     * The name starts with an uppercase letter.
+     */
+    static final int CAMEL_CASE = 1;
+
+    /**
+     * The name contains the 'test' word.
+     */
+    static final int TEST_WORD = 1 << 1;
+
+    /**
+     * The name contains four identical symbols in a row.
+     */
+    static final int SPAM = 1 << 2;
+
+    /**
+     * The name contains '$' or '_'.
+     */
+    static final int SPECIAL_CHARACTERS = 1 << 3;
+
+    /**
+     * The first word of the name doesn't end with 's'.
+     */
+    static final int NOT_PRESENT_TENSE = 1 << 4;
+
+    /**
+     * The bitmask of violations.
+     */
+    private final int mask;
+
+    /**
+     * Ctor.
+     * @param name The name of the test method.
+     */
+    NameViolations(final String name) {
+        this(NameViolations.scan(name));
+    }
+
+    /**
+     * Primary ctor.
+     * @param mask The bitmask of violations.
+     */
+    private NameViolations(final int mask) {
+        this.mask = mask;
+    }
+
+    /**
+     * Does the name violate the rule.
+     * @param violation The violation, one of the constants of this class.
+     * @return True if it does.
+     */
+    boolean has(final int violation) {
+        return (this.mask & violation) != 0;
+    }
+
+    /**
+     * Scan the name.
+     * @param name The name of the test method.
+     * @return The bitmask of violations.
+     */
+    private static int scan(final String name) {
+        int result = 0;
+        if (!name.isEmpty() && Character.isUpperCase(name.charAt(0))) {
+            result |= NameViolations.CAMEL_CASE;
+        }
+        int stack = 0;
+        char prev = '!';
+        char verb = '!';
+        boolean first = true;
+        for (int idx = 0; idx < name.length(); ++idx) {
+            final char chr = name.charAt(idx);
+            if (chr == prev) {
+                ++stack;
+            } else {
+                stack = 0;
+                prev = chr;
+            }
+            if (stack > 2) {
+                result |= NameViolations.SPAM;
+            }
+            if (chr == '$' || chr == '_') {
+                result |= NameViolations.SPECIAL_CHARACTERS;
+            }
+            if (NameViolations.isTestWord(name, idx)) {
+                result |= NameViolations.TEST_WORD;
+            }
+            if (first && Character.isUpperCase(chr)) {
+                first = false;
+            } else if (first) {
+                verb = chr;
+            }
+        }
+        if (verb != 's') {
+            result |= NameViolations.NOT_PRESENT_TENSE;
+        }
+        return result;
+    }
+
+    /**
+     * Does the 'test' word start at the position.
+     * Only 'test', 'Test' and 'TEST' are considered.
+     * @param name The name.
+     * @param idx The position.
+     * @return True if it does.
+     */
+    private static boolean isTestWord(final String name, final int idx) {
+        final char chr = name.charAt(idx);
+        final boolean result;
+        if (chr == 't') {
+            result = name.startsWith("est", idx + 1);
+        } else if (chr == 'T') {
+            result = name.startsWith("est", idx + 1) || name.startsWith("EST", idx + 1);
+        } else {
+            result = false;
+        }
+        return result;
+    }
+}
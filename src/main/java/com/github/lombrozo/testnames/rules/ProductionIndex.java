@@ -0,0 +1,129 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.rules;
+
+import com.github.lombrozo.testnames.ProductionClass;
+import com.github.lombrozo.testnames.Project;
+import java.util.Collections;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.cactoos.scalar.Solid;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Index of production class names.
+ * The index walks production classes of a project only once, on the first
+ * lookup, and then answers whether a test has a corresponding production
+ * class in constant time. The same index is shared by all the test classes
+ * checked during one run.
+ *
+ * @since 1.5
+ */
+public final class ProductionIndex {
+
+    /**
+     * The pattern to replace the underscore sign "_".
+     */
+    private static final Pattern UNDERSCORE = Pattern.compile("_");
+
+    /**
+     * The pattern to replace the dollar sign "$".
+     */
+    private static final Pattern DOLLAR = Pattern.compile("\\$");
+
+    /**
+     * Names of the tests that correspond to production classes.
+     */
+    private final Unchecked<Set<String>> tests;
+
+    /**
+     * Ctor.
+     * @param project The project with production classes.
+     */
+    public ProductionIndex(final Project project) {
+        this(new Unchecked<>(new Solid<>(() -> ProductionIndex.names(project))));
+    }
+
+    /**
+     * Primary ctor.
+     * @param tests Names of the tests that correspond to production classes.
+     */
+    private ProductionIndex(final Unchecked<Set<String>> tests) {
+        this.tests = tests;
+    }
+
+    /**
+     * Whether some production class corresponds to the test.
+     * @param test The cleaned name of the test class.
+     * @return True if there is a production class for the test.
+     */
+    boolean contains(final String test) {
+        return this.tests.value().contains(test);
+    }
+
+    /**
+     * Removes that not important part of the name.
+     * @param original The original name.
+     * @return The cleaned name.
+     */
+    static String clean(final String original) {
+        final String plain;
+        if (original.endsWith(".java")) {
+            plain = original.substring(0, original.length() - 5);
+        } else if (original.endsWith(".class")) {
+            plain = original.substring(0, original.length() - 6);
+        } else {
+            plain = original;
+        }
+        return ProductionIndex.DOLLAR.matcher(
+            ProductionIndex.UNDERSCORE.matcher(plain).replaceAll("")
+        ).replaceAll("");
+    }
+
+    /**
+     * Checks that the name is not package-info.java.
+     * @param name The name to check.
+     * @return True if the name is not package-info.java.
+     */
+    static boolean isNotPackageInfo(final String name) {
+        return !"package-info.java".equals(name);
+    }
+
+    /**
+     * Names of the tests that correspond to production classes of the project.
+     * @param project The project with production classes.
+     * @return Unmodifiable set of test names.
+     */
+    private static Set<String> names(final Project project) {
+        return Collections.unmodifiableSet(
+            project.productionClasses()
+                .stream()
+                .map(ProductionClass::name)
+                .filter(ProductionIndex::isNotPackageInfo)
+                .map(name -> String.format("%sTest", ProductionIndex.clean(name)))
+                .collect(Collectors.toSet())
+        );
+    }
+}
@@ -25,13 +25,17 @@ package com.github.lombrozo.testnames.rules;
 
 import com.github.lombrozo.testnames.Assertion;
 import com.github.lombrozo.testnames.Complaint;
+import com.github.lombrozo.testnames.ComplaintSink;
+import com.github.lombrozo.testnames.Fact;
 import com.github.lombrozo.testnames.Rule;
 import com.github.lombrozo.testnames.TestCase;
 import com.github.lombrozo.testnames.complaints.ComplaintLinked;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * The rule that checks that test method has assertion and the assertion message is not empty.
@@ -40,6 +44,13 @@ import java.util.List;
  */
 final class RuleAssertionMessage implements Rule {
 
+    /**
+     * Facts about test sources that the rule reads.
+     */
+    static final Set<Fact> FACTS = Collections.unmodifiableSet(
+        EnumSet.of(Fact.METHOD_BODIES, Fact.RESOLVED_TYPES)
+    );
+
     /**
      * The test case.
      */
@@ -58,18 +69,33 @@ final class RuleAssertionMessage implements Rule {
         return Collections.singletonList(RuleAssertionMessage.class.getSimpleName());
     }
 
+    @Override
+    public Set<Fact> facts() {
+        return RuleAssertionMessage.FACTS;
+    }
+
     @Override
     public Collection<Complaint> complaints() {
-        final Collection<Assertion> assertions = this.method.assertions();
         final Collection<Complaint> res = new ArrayList<>(0);
+        RuleAssertionMessage.check(this.method, res::add);
+        return Collections.unmodifiableCollection(res);
+    }
+
+    /**
+     * Check the test case.
+     * @param test The test case.
+     * @param sink The sink of complaints.
+     */
+    static void check(final TestCase test, final ComplaintSink sink) {
+        final Collection<Assertion> assertions = test.assertions();
         if (assertions.isEmpty()) {
-            res.add(new EmptyAssertions(this.method));
+            sink.accept(new EmptyAssertions(test));
+        }
+        for (final Assertion assertion : assertions) {
+            if (!assertion.explanation().isPresent()) {
+                sink.accept(new EmptyAssertionMessage(test, assertion));
+            }
         }
-        assertions.stream()
-            .filter(assertion -> !assertion.explanation().isPresent())
-            .map(assertion -> new EmptyAssertionMessage(this.method, assertion))
-            .forEach(res::add);
-        return Collections.unmodifiableCollection(res);
     }
 
     /**
@@ -25,14 +25,16 @@
 package com.github.lombrozo.testnames.rules;
 
 import com.github.lombrozo.testnames.Complaint;
+import com.github.lombrozo.testnames.Fact;
 import com.github.lombrozo.testnames.Parameters;
 import com.github.lombrozo.testnames.Rule;
 import com.github.lombrozo.testnames.TestCase;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.Set;
 
 /**
  * The rule checks if test case in present simple.
@@ -43,9 +45,21 @@ import java.util.stream.Stream;
 public final class RuleCorrectTestCase implements Rule {
 
     /**
-     * The rules.
+     * Facts about test sources that the rule reads.
      */
-    private final Collection<Rule> all;
+    private static final Set<Fact> FACTS = Collections.unmodifiableSet(
+        EnumSet.of(Fact.METHOD_NAMES)
+    );
+
+    /**
+     * The test case to check.
+     */
+    private final TestCase test;
+
+    /**
+     * The checks of the test case.
+     */
+    private final CaseChecks checks;
 
     /**
      * Ctor.
@@ -54,16 +68,18 @@ public final class RuleCorrectTestCase implements Rule {
      * @param parameters Parameters to use for the check.
      */
     RuleCorrectTestCase(final TestCase test, final Parameters parameters) {
-        this.all = Stream.of(
-            new RuleNotCamelCase(test),
-            new RuleNotContainsTestWord(test),
-            new RuleNotSpam(test),
-            new RuleNotUsesSpecialCharacters(test),
-            new RulePresentTense(test),
-            new RuleAssertionMessage(test),
-            new LineHitterRule(test),
-            new RuleTestCaseContainsMockery(test, parameters)
-        ).map(rule -> new RuleSuppressed(rule, test)).collect(Collectors.toList());
+        this(test, new CaseChecks(parameters));
+    }
+
+    /**
+     * Primary ctor.
+     *
+     * @param test The test case to check
+     * @param checks The checks of the test case.
+     */
+    RuleCorrectTestCase(final TestCase test, final CaseChecks checks) {
+        this.test = test;
+        this.checks = checks;
     }
 
     @Override
@@ -71,11 +87,17 @@ public final class RuleCorrectTestCase implements Rule {
         return Collections.singletonList(this.getClass().getSimpleName());
     }
 
+    @Override
+    public Set<Fact> facts() {
+        final Set<Fact> res = EnumSet.copyOf(RuleCorrectTestCase.FACTS);
+        res.addAll(this.checks.facts());
+        return res;
+    }
+
     @Override
     public Collection<Complaint> complaints() {
-        return this.all.stream()
-            .map(Rule::complaints)
-            .flatMap(Collection::stream)
-            .collect(Collectors.toList());
+        final Collection<Complaint> result = new ArrayList<>(0);
+        this.checks.check(this.test, result::add);
+        return result;
     }
 }
@@ -25,14 +25,18 @@
 package com.github.lombrozo.testnames.rules;
 
 import com.github.lombrozo.testnames.Complaint;
+import com.github.lombrozo.testnames.Fact;
 import com.github.lombrozo.testnames.Parameters;
 import com.github.lombrozo.testnames.Rule;
+import com.github.lombrozo.testnames.TestCase;
 import com.github.lombrozo.testnames.TestClass;
 import com.github.lombrozo.testnames.complaints.ComplaintClass;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 /**
  * The rule to check all tests on {@link RuleCorrectTestCase}.
@@ -42,15 +46,22 @@ import java.util.stream.Collectors;
 @SuppressWarnings("PMD.TestClassWithoutTestCases")
 public final class RuleCorrectTestCases implements Rule {
 
+    /**
+     * Facts about test sources that the rule reads.
+     */
+    private static final Set<Fact> FACTS = Collections.unmodifiableSet(
+        EnumSet.of(Fact.METHOD_NAMES)
+    );
+
     /**
      * All test cases.
      */
     private final TestClass tests;
 
     /**
-     * Parameters to use for the check.
+     * The checks of each test case.
      */
-    private final Parameters parameters;
+    private final CaseChecks checks;
 
     /**
      * Ctor.
@@ -67,8 +78,18 @@ public final class RuleCorrectTestCases implements Rule {
      * @param parameters The parameters to use for the check.
      */
     public RuleCorrectTestCases(final TestClass cases, final Parameters parameters) {
+        this(cases, new CaseChecks(parameters));
+    }
+
+    /**
+     * Primary ctor.
+     *
+     * @param cases The cases to check
+     * @param checks The checks of each test case, shared by all test classes.
+     */
+    public RuleCorrectTestCases(final TestClass cases, final CaseChecks checks) {
         this.tests = cases;
-        this.parameters = parameters;
+        this.checks = checks;
     }
 
     @Override
@@ -76,17 +97,19 @@ public final class RuleCorrectTestCases implements Rule {
         return Collections.singletonList(this.getClass().getSimpleName());
     }
 
+    @Override
+    public Set<Fact> facts() {
+        final Set<Fact> res = EnumSet.copyOf(RuleCorrectTestCases.FACTS);
+        res.addAll(this.checks.facts());
+        return res;
+    }
+
     @Override
     public Collection<Complaint> complaints() {
-        final List<Complaint> list = this.tests.all().stream()
-            .map(
-                test ->
-                    new RuleSuppressed(
-                        new RuleCorrectTestCase(test, this.parameters), test
-                    )
-            ).map(Rule::complaints)
-            .flatMap(Collection::stream)
-            .collect(Collectors.toList());
+        final List<Complaint> list = new ArrayList<>(0);
+        for (final TestCase test : this.tests.all()) {
+            this.checks.check(test, list::add);
+        }
         final Collection<Complaint> result;
         if (list.isEmpty()) {
             result = Collections.emptyList();
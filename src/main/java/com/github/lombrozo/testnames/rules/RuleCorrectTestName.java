@@ -24,13 +24,16 @@
 package com.github.lombrozo.testnames.rules;
 
 import com.github.lombrozo.testnames.Complaint;
+import com.github.lombrozo.testnames.Fact;
 import com.github.lombrozo.testnames.Rule;
 import com.github.lombrozo.testnames.TestClass;
 import com.github.lombrozo.testnames.complaints.ComplaintLinked;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * The rule that checks the correct name of an integration test class.
@@ -39,6 +42,13 @@ import java.util.List;
  */
 public final class RuleCorrectTestName implements Rule {
 
+    /**
+     * Facts about test sources that the rule reads.
+     */
+    private static final Set<Fact> FACTS = Collections.unmodifiableSet(
+        EnumSet.of(Fact.FILE_NAME)
+    );
+
     /**
      * Allowed prefixes for integration and unit test class names.
      */
@@ -62,6 +72,11 @@ public final class RuleCorrectTestName implements Rule {
         return Collections.singletonList(this.getClass().getSimpleName());
     }
 
+    @Override
+    public Set<Fact> facts() {
+        return RuleCorrectTestName.FACTS;
+    }
+
     @Override
     public Collection<Complaint> complaints() {
         final Collection<Complaint> complaints;
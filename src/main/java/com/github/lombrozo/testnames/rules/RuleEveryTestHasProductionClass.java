@@ -24,7 +24,7 @@
 package com.github.lombrozo.testnames.rules;
 
 import com.github.lombrozo.testnames.Complaint;
-import com.github.lombrozo.testnames.ProductionClass;
+import com.github.lombrozo.testnames.Fact;
 import com.github.lombrozo.testnames.Project;
 import com.github.lombrozo.testnames.Rule;
 import com.github.lombrozo.testnames.TestClass;
@@ -33,11 +33,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
-import java.util.Map;
-import java.util.function.Function;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 /**
  * The rule that checks that all tests have production class.
@@ -57,19 +55,16 @@ public final class RuleEveryTestHasProductionClass implements Rule {
     public static final String SECOND_NAME = "RuleAllTestsHaveProductionClass";
 
     /**
-     * The pattern to replace the underscore sign "_".
+     * Facts about test sources that the rule reads.
      */
-    private static final Pattern UNDERSCORE = Pattern.compile("_");
+    private static final Set<Fact> FACTS = Collections.unmodifiableSet(
+        EnumSet.of(Fact.FILE_NAME, Fact.CLASS_HEADER, Fact.METHOD_NAMES)
+    );
 
     /**
-     * The pattern to replace the dollar sign "$".
+     * The index of production classes.
      */
-    private static final Pattern DOLLAR = Pattern.compile("\\$");
-
-    /**
-     * The project to check.
-     */
-    private final Project project;
+    private final ProductionIndex index;
 
     /**
      * Test class to check.
@@ -77,12 +72,21 @@ public final class RuleEveryTestHasProductionClass implements Rule {
     private final TestClass test;
 
     /**
-     * Primary ctor.
+     * Ctor.
      * @param proj The project to check.
      * @param test The test to check.
      */
     public RuleEveryTestHasProductionClass(final Project proj, final TestClass test) {
-        this.project = proj;
+        this(new ProductionIndex(proj), test);
+    }
+
+    /**
+     * Primary ctor.
+     * @param index The index of production classes shared between tests.
+     * @param test The test to check.
+     */
+    public RuleEveryTestHasProductionClass(final ProductionIndex index, final TestClass test) {
+        this.index = index;
         this.test = test;
     }
 
@@ -93,25 +97,20 @@ public final class RuleEveryTestHasProductionClass implements Rule {
         );
     }
 
+    @Override
+    public Set<Fact> facts() {
+        return RuleEveryTestHasProductionClass.FACTS;
+    }
+
     @Override
     public Collection<Complaint> complaints() {
         final Collection<Complaint> result;
         if (this.isTest()) {
-            final Map<String, ProductionClass> classes = this.project.productionClasses()
-                .stream()
-                .filter(clazz -> RuleEveryTestHasProductionClass.isNotPackageInfo(clazz.name()))
-                .collect(
-                    Collectors.toMap(
-                        RuleEveryTestHasProductionClass::correspondingTest,
-                        Function.identity(),
-                        (first, second) -> first
-                    )
-                );
             final Collection<Complaint> complaints = new ArrayList<>(0);
-            final String name = RuleEveryTestHasProductionClass.clean(this.test.name());
-            if (!classes.containsKey(name)
+            final String name = ProductionIndex.clean(this.test.name());
+            if (!this.index.contains(name)
                 && !this.test.characteristics().isIntegrationTest()
-                && RuleEveryTestHasProductionClass.isNotPackageInfo(this.test.name())) {
+                && ProductionIndex.isNotPackageInfo(this.test.name())) {
                 complaints.add(
                     new ComplaintLinked(
                         String.format("Test %s doesn't have corresponding production class", name),
@@ -131,43 +130,6 @@ public final class RuleEveryTestHasProductionClass implements Rule {
         return result;
     }
 
-    /**
-     * Returns the name of the test class that corresponds to the production class.
-     * @param clazz Production class.
-     * @return The name of the test class that corresponds to the production class.
-     */
-    private static String correspondingTest(final ProductionClass clazz) {
-        return String.format("%sTest", RuleEveryTestHasProductionClass.clean(clazz.name()));
-    }
-
-    /**
-     * Removes that not important part of the name.
-     * @param original The original name.
-     * @return The cleaned name.
-     */
-    private static String clean(final String original) {
-        final String plain;
-        if (original.endsWith(".java")) {
-            plain = original.substring(0, original.length() - 5);
-        } else if (original.endsWith(".class")) {
-            plain = original.substring(0, original.length() - 6);
-        } else {
-            plain = original;
-        }
-        return RuleEveryTestHasProductionClass.DOLLAR.matcher(
-            RuleEveryTestHasProductionClass.UNDERSCORE.matcher(plain).replaceAll("")
-        ).replaceAll("");
-    }
-
-    /**
-     * Checks that the name is not package-info.java.
-     * @param name The name to check.
-     * @return True if the name is not package-info.java.
-     */
-    private static boolean isNotPackageInfo(final String name) {
-        return !"package-info.java".equals(name);
-    }
-
     /**
      * Checks that the test is actually a test.
      * @return True if the test is actually a test.
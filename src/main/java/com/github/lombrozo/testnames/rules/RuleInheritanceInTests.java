@@ -24,12 +24,15 @@
 package com.github.lombrozo.testnames.rules;
 
 import com.github.lombrozo.testnames.Complaint;
+import com.github.lombrozo.testnames.Fact;
 import com.github.lombrozo.testnames.Rule;
 import com.github.lombrozo.testnames.TestClass;
 import com.github.lombrozo.testnames.complaints.ComplaintLinked;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * The rule that checks a test class doesn't use inheritance.
@@ -38,6 +41,13 @@ import java.util.List;
 @SuppressWarnings("PMD.TestClassWithoutTestCases")
 public final class RuleInheritanceInTests implements Rule {
 
+    /**
+     * Facts about test sources that the rule reads.
+     */
+    private static final Set<Fact> FACTS = Collections.unmodifiableSet(
+        EnumSet.of(Fact.CLASS_HEADER)
+    );
+
     /**
      * Test class.
      */
@@ -56,6 +66,11 @@ public final class RuleInheritanceInTests implements Rule {
         return Collections.singletonList(this.getClass().getSimpleName());
     }
 
+    @Override
+    public Set<Fact> facts() {
+        return RuleInheritanceInTests.FACTS;
+    }
+
     @Override
     public Collection<Complaint> complaints() {
         final Collection<Complaint> result;
@@ -25,13 +25,18 @@
 package com.github.lombrozo.testnames.rules;
 
 import com.github.lombrozo.testnames.Complaint;
+import com.github.lombrozo.testnames.ComplaintSink;
+import com.github.lombrozo.testnames.Fact;
 import com.github.lombrozo.testnames.Rule;
 import com.github.lombrozo.testnames.TestCase;
 import com.github.lombrozo.testnames.complaints.ComplaintLinked;
 import com.github.lombrozo.testnames.complaints.ComplaintWrongTestName;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Rule to check test case on not camel case name.
@@ -45,18 +50,41 @@ public final class RuleNotCamelCase implements Rule {
      */
     public static final String NAME = "RuleNotCamelCase";
 
+    /**
+     * Facts about test sources that the rule reads.
+     */
+    static final Set<Fact> FACTS = Collections.unmodifiableSet(
+        EnumSet.of(Fact.METHOD_NAMES)
+    );
+
     /**
      * The test case.
      */
     private final TestCase test;
 
+    /**
+     * Violations of naming rules in the test name.
+     */
+    private final NameViolations names;
+
     /**
      * Ctor.
      *
      * @param test The test case
      */
     RuleNotCamelCase(final TestCase test) {
+        this(test, new NameViolations(test.name()));
+    }
+
+    /**
+     * Primary ctor.
+     *
+     * @param test The test case
+     * @param names Violations of naming rules in the test name
+     */
+    RuleNotCamelCase(final TestCase test, final NameViolations names) {
         this.test = test;
+        this.names = names;
     }
 
     @Override
@@ -64,39 +92,38 @@ public final class RuleNotCamelCase implements Rule {
         return Collections.singletonList(this.getClass().getSimpleName());
     }
 
+    @Override
+    public Set<Fact> facts() {
+        return RuleNotCamelCase.FACTS;
+    }
+
     @Override
     public Collection<Complaint> complaints() {
-        return new RuleConditional(
-            this::notCamelCase,
-            new ComplaintLinked(
-                new ComplaintWrongTestName(
-                    this.test,
-                    "test has to be written by using Camel Case"
-                ).message(),
-                "Please rename the test by using the Camel Case",
-                this.getClass(),
-                "camel-case.md"
-            )
-        ).complaints();
+        final Collection<Complaint> result = new ArrayList<>(0);
+        RuleNotCamelCase.check(this.test, this.names, result::add);
+        return result;
     }
 
     /**
-     * Is not in camel case.
+     * Check the test case.
      *
-     * @return The result
-     * @checkstyle ReturnCountCheck (15 lines)
+     * @param test The test case
+     * @param names Violations of naming rules in the test name
+     * @param sink The sink of complaints
      */
-    @SuppressWarnings("PMD.OnlyOneReturn")
-    private boolean notCamelCase() {
-        int stack = 0;
-        for (final char chr : this.test.name().toCharArray()) {
-            if (Character.isUpperCase(chr) && stack == 0) {
-                return true;
-            } else if (stack != 0) {
-                stack = 0;
-            }
-            ++stack;
+    static void check(final TestCase test, final NameViolations names, final ComplaintSink sink) {
+        if (names.has(NameViolations.CAMEL_CASE)) {
+            sink.accept(
+                new ComplaintLinked(
+                    new ComplaintWrongTestName(
+                        test,
+                        "test has to be written by using Camel Case"
+                    ).message(),
+                    "Please rename the test by using the Camel Case",
+                    RuleNotCamelCase.class,
+                    "camel-case.md"
+                )
+            );
         }
-        return false;
     }
 }
@@ -25,14 +25,18 @@
 package com.github.lombrozo.testnames.rules;
 
 import com.github.lombrozo.testnames.Complaint;
+import com.github.lombrozo.testnames.ComplaintSink;
+import com.github.lombrozo.testnames.Fact;
 import com.github.lombrozo.testnames.Rule;
 import com.github.lombrozo.testnames.TestCase;
 import com.github.lombrozo.testnames.complaints.ComplaintLinked;
 import com.github.lombrozo.testnames.complaints.ComplaintWrongTestName;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.Set;
 
 /**
  * Test case without a 'test' word in name.
@@ -46,18 +50,41 @@ public final class RuleNotContainsTestWord implements Rule {
      */
     public static final String NAME = "RuleNotContainsTestWord";
 
+    /**
+     * Facts about test sources that the rule reads.
+     */
+    static final Set<Fact> FACTS = Collections.unmodifiableSet(
+        EnumSet.of(Fact.METHOD_NAMES)
+    );
+
     /**
      * The test case.
      */
     private final TestCase test;
 
+    /**
+     * Violations of naming rules in the test name.
+     */
+    private final NameViolations names;
+
     /**
      * Ctor.
      *
      * @param test The test case to check
      */
     RuleNotContainsTestWord(final TestCase test) {
+        this(test, new NameViolations(test.name()));
+    }
+
+    /**
+     * Primary ctor.
+     *
+     * @param test The test case to check
+     * @param names Violations of naming rules in the test name
+     */
+    RuleNotContainsTestWord(final TestCase test, final NameViolations names) {
         this.test = test;
+        this.names = names;
     }
 
     @Override
@@ -65,28 +92,38 @@ public final class RuleNotContainsTestWord implements Rule {
         return Collections.singletonList(RuleNotContainsTestWord.NAME);
     }
 
+    @Override
+    public Set<Fact> facts() {
+        return RuleNotContainsTestWord.FACTS;
+    }
+
     @Override
     public Collection<Complaint> complaints() {
-        return new RuleConditional(
-            this::containsTest,
-            new ComplaintLinked(
-                new ComplaintWrongTestName(
-                    this.test,
-                    "test name doesn't have to contain the word 'test'"
-                ).message(),
-                "Remove 'test' word from the test name",
-                this.getClass(),
-                "rule-not-contains-test-word.md"
-            )
-        ).complaints();
+        final Collection<Complaint> result = new ArrayList<>(0);
+        RuleNotContainsTestWord.check(this.test, this.names, result::add);
+        return result;
     }
 
     /**
-     * Is contains the 'test' word.
+     * Check the test case.
      *
-     * @return The result
+     * @param test The test case
+     * @param names Violations of naming rules in the test name
+     * @param sink The sink of complaints
      */
-    private boolean containsTest() {
-        return Stream.of("test", "TEST", "Test").anyMatch(this.test.name()::contains);
+    static void check(final TestCase test, final NameViolations names, final ComplaintSink sink) {
+        if (names.has(NameViolations.TEST_WORD)) {
+            sink.accept(
+                new ComplaintLinked(
+                    new ComplaintWrongTestName(
+                        test,
+                        "test name doesn't have to contain the word 'test'"
+                    ).message(),
+                    "Remove 'test' word from the test name",
+                    RuleNotContainsTestWord.class,
+                    "rule-not-contains-test-word.md"
+                )
+            );
+        }
     }
 }
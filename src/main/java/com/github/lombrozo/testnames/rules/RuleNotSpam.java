@@ -25,13 +25,18 @@
 package com.github.lombrozo.testnames.rules;
 
 import com.github.lombrozo.testnames.Complaint;
+import com.github.lombrozo.testnames.ComplaintSink;
+import com.github.lombrozo.testnames.Fact;
 import com.github.lombrozo.testnames.Rule;
 import com.github.lombrozo.testnames.TestCase;
 import com.github.lombrozo.testnames.complaints.ComplaintLinked;
 import com.github.lombrozo.testnames.complaints.ComplaintWrongTestName;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Rule to check test case on not spam.
@@ -40,18 +45,41 @@ import java.util.List;
  */
 public final class RuleNotSpam implements Rule {
 
+    /**
+     * Facts about test sources that the rule reads.
+     */
+    static final Set<Fact> FACTS = Collections.unmodifiableSet(
+        EnumSet.of(Fact.METHOD_NAMES)
+    );
+
     /**
      * The test case.
      */
     private final TestCase test;
 
+    /**
+     * Violations of naming rules in the test name.
+     */
+    private final NameViolations names;
+
     /**
      * Ctor.
      *
      * @param test The test case
      */
     RuleNotSpam(final TestCase test) {
+        this(test, new NameViolations(test.name()));
+    }
+
+    /**
+     * Primary ctor.
+     *
+     * @param test The test case
+     * @param names Violations of naming rules in the test name
+     */
+    RuleNotSpam(final TestCase test, final NameViolations names) {
         this.test = test;
+        this.names = names;
     }
 
     @Override
@@ -59,43 +87,38 @@ public final class RuleNotSpam implements Rule {
         return Collections.singletonList(this.getClass().getSimpleName());
     }
 
+    @Override
+    public Set<Fact> facts() {
+        return RuleNotSpam.FACTS;
+    }
+
     @Override
     public Collection<Complaint> complaints() {
-        return new RuleConditional(
-            () -> !this.notSpam(),
-            new ComplaintLinked(
-                new ComplaintWrongTestName(
-                    this.test,
-                    "test name doesn't have to contain duplicated symbols"
-                ).message(),
-                "Remove duplicated symbols from the test name",
-                this.getClass(),
-                "not-spam.md"
-            )
-        ).complaints();
+        final Collection<Complaint> result = new ArrayList<>(0);
+        RuleNotSpam.check(this.test, this.names, result::add);
+        return result;
     }
 
     /**
-     * Check symbols duplication in test case name.
+     * Check the test case.
      *
-     * @return The result
-     * @checkstyle ReturnCountCheck (30 lines)
+     * @param test The test case
+     * @param names Violations of naming rules in the test name
+     * @param sink The sink of complaints
      */
-    @SuppressWarnings("PMD.OnlyOneReturn")
-    private boolean notSpam() {
-        int stack = 0;
-        char prev = '!';
-        for (final char chr : this.test.name().toCharArray()) {
-            if (chr == prev) {
-                ++stack;
-            } else {
-                stack = 0;
-                prev = chr;
-            }
-            if (stack > 2) {
-                return false;
-            }
+    static void check(final TestCase test, final NameViolations names, final ComplaintSink sink) {
+        if (names.has(NameViolations.SPAM)) {
+            sink.accept(
+                new ComplaintLinked(
+                    new ComplaintWrongTestName(
+                        test,
+                        "test name doesn't have to contain duplicated symbols"
+                    ).message(),
+                    "Remove duplicated symbols from the test name",
+                    RuleNotSpam.class,
+                    "not-spam.md"
+                )
+            );
         }
-        return true;
     }
 }
@@ -25,13 +25,18 @@
 package com.github.lombrozo.testnames.rules;
 
 import com.github.lombrozo.testnames.Complaint;
+import com.github.lombrozo.testnames.ComplaintSink;
+import com.github.lombrozo.testnames.Fact;
 import com.github.lombrozo.testnames.Rule;
 import com.github.lombrozo.testnames.TestCase;
 import com.github.lombrozo.testnames.complaints.ComplaintLinked;
 import com.github.lombrozo.testnames.complaints.ComplaintWrongTestName;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * The rule to check if test name uses special chars.
@@ -40,18 +45,41 @@ import java.util.List;
  */
 public final class RuleNotUsesSpecialCharacters implements Rule {
 
+    /**
+     * Facts about test sources that the rule reads.
+     */
+    static final Set<Fact> FACTS = Collections.unmodifiableSet(
+        EnumSet.of(Fact.METHOD_NAMES)
+    );
+
     /**
      * The test case.
      */
     private final TestCase test;
 
+    /**
+     * Violations of naming rules in the test name.
+     */
+    private final NameViolations names;
+
     /**
      * Ctor.
      *
      * @param test The test case to check
      */
     RuleNotUsesSpecialCharacters(final TestCase test) {
+        this(test, new NameViolations(test.name()));
+    }
+
+    /**
+     * Primary ctor.
+     *
+     * @param test The test case to check
+     * @param names Violations of naming rules in the test name
+     */
+    RuleNotUsesSpecialCharacters(final TestCase test, final NameViolations names) {
         this.test = test;
+        this.names = names;
     }
 
     @Override
@@ -59,28 +87,38 @@ public final class RuleNotUsesSpecialCharacters implements Rule {
         return Collections.singletonList(this.getClass().getSimpleName());
     }
 
+    @Override
+    public Set<Fact> facts() {
+        return RuleNotUsesSpecialCharacters.FACTS;
+    }
+
     @Override
     public Collection<Complaint> complaints() {
-        return new RuleConditional(
-            this::usesSpecialCharacters,
-            new ComplaintLinked(
-                new ComplaintWrongTestName(
-                    this.test,
-                    "test name shouldn't contain special characters like '$' or '_'"
-                ).message(),
-                "Remove all special characters like '$' or '_' from test name",
-                this.getClass(),
-                "not-special-characters.md"
-            )
-        ).complaints();
+        final Collection<Complaint> result = new ArrayList<>(0);
+        RuleNotUsesSpecialCharacters.check(this.test, this.names, result::add);
+        return result;
     }
 
     /**
-     * Is contain special chars.
+     * Check the test case.
      *
-     * @return The result
+     * @param test The test case
+     * @param names Violations of naming rules in the test name
+     * @param sink The sink of complaints
      */
-    private boolean usesSpecialCharacters() {
-        return this.test.name().contains("$") || this.test.name().contains("_");
+    static void check(final TestCase test, final NameViolations names, final ComplaintSink sink) {
+        if (names.has(NameViolations.SPECIAL_CHARACTERS)) {
+            sink.accept(
+                new ComplaintLinked(
+                    new ComplaintWrongTestName(
+                        test,
+                        "test name shouldn't contain special characters like '$' or '_'"
+                    ).message(),
+                    "Remove all special characters like '$' or '_' from test name",
+                    RuleNotUsesSpecialCharacters.class,
+                    "not-special-characters.md"
+                )
+            );
+        }
     }
 }
@@ -24,13 +24,16 @@
 package com.github.lombrozo.testnames.rules;
 
 import com.github.lombrozo.testnames.Complaint;
+import com.github.lombrozo.testnames.Fact;
 import com.github.lombrozo.testnames.Rule;
 import com.github.lombrozo.testnames.TestClass;
 import com.github.lombrozo.testnames.TestClassCharacteristics;
 import com.github.lombrozo.testnames.complaints.ComplaintLinked;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Checks that test class has only methods annotated with @Test annotation.
@@ -42,6 +45,13 @@ import java.util.List;
  */
 public final class RuleOnlyTestMethods implements Rule {
 
+    /**
+     * Facts about test sources that the rule reads.
+     */
+    private static final Set<Fact> FACTS = Collections.unmodifiableSet(
+        EnumSet.of(Fact.METHOD_NAMES)
+    );
+
     /**
      * The test class.
      */
@@ -60,6 +70,11 @@ public final class RuleOnlyTestMethods implements Rule {
         return Collections.singletonList(this.getClass().getSimpleName());
     }
 
+    @Override
+    public Set<Fact> facts() {
+        return RuleOnlyTestMethods.FACTS;
+    }
+
     @Override
     public Collection<Complaint> complaints() {
         final Collection<Complaint> result;
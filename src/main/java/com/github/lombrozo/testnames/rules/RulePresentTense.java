@@ -25,13 +25,18 @@
 package com.github.lombrozo.testnames.rules;
 
 import com.github.lombrozo.testnames.Complaint;
+import com.github.lombrozo.testnames.ComplaintSink;
+import com.github.lombrozo.testnames.Fact;
 import com.github.lombrozo.testnames.Rule;
 import com.github.lombrozo.testnames.TestCase;
 import com.github.lombrozo.testnames.complaints.ComplaintLinked;
 import com.github.lombrozo.testnames.complaints.ComplaintWrongTestName;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * The rule checks if test case in present tense.
@@ -40,18 +45,41 @@ import java.util.List;
  */
 public final class RulePresentTense implements Rule {
 
+    /**
+     * Facts about test sources that the rule reads.
+     */
+    static final Set<Fact> FACTS = Collections.unmodifiableSet(
+        EnumSet.of(Fact.METHOD_NAMES)
+    );
+
     /**
      * The test case.
      */
     private final TestCase test;
 
+    /**
+     * Violations of naming rules in the test name.
+     */
+    private final NameViolations names;
+
     /**
      * Ctor.
      *
-     * @param tst The test case to check
+     * @param test The test case to check
+     */
+    RulePresentTense(final TestCase test) {
+        this(test, new NameViolations(test.name()));
+    }
+
+    /**
+     * Primary ctor.
+     *
+     * @param test The test case to check
+     * @param names Violations of naming rules in the test name
      */
-    RulePresentTense(final TestCase tst) {
-        this.test = tst;
+    RulePresentTense(final TestCase test, final NameViolations names) {
+        this.test = test;
+        this.names = names;
     }
 
     @Override
@@ -59,39 +87,38 @@ public final class RulePresentTense implements Rule {
         return Collections.singletonList(this.getClass().getSimpleName());
     }
 
+    @Override
+    public Set<Fact> facts() {
+        return RulePresentTense.FACTS;
+    }
+
     @Override
     public Collection<Complaint> complaints() {
-        return new RuleConditional(
-            () -> !this.presentTense(),
-            new ComplaintLinked(
-                new ComplaintWrongTestName(
-                    this.test,
-                    "the test name has to be written using present tense"
-                ).message(),
-                "Please, rename the test name using present tense",
-                this.getClass(),
-                "present-tense.md"
-            )
-        ).complaints();
+        final Collection<Complaint> result = new ArrayList<>(0);
+        RulePresentTense.check(this.test, this.names, result::add);
+        return result;
     }
 
     /**
-     * Is test case name in present tense.
+     * Check the test case.
      *
-     * @return The result
-     * @checkstyle ReturnCountCheck (20 lines)
+     * @param test The test case
+     * @param names Violations of naming rules in the test name
+     * @param sink The sink of complaints
      */
-    @SuppressWarnings("PMD.OnlyOneReturn")
-    private boolean presentTense() {
-        final char[] chars = this.test.name().toCharArray();
-        char prev = '!';
-        for (final char chr : chars) {
-            if (Character.isUpperCase(chr)) {
-                return prev == 's';
-            } else {
-                prev = chr;
-            }
+    static void check(final TestCase test, final NameViolations names, final ComplaintSink sink) {
+        if (names.has(NameViolations.NOT_PRESENT_TENSE)) {
+            sink.accept(
+                new ComplaintLinked(
+                    new ComplaintWrongTestName(
+                        test,
+                        "the test name has to be written using present tense"
+                    ).message(),
+                    "Please, rename the test name using present tense",
+                    RulePresentTense.class,
+                    "present-tense.md"
+                )
+            );
         }
-        return prev == 's';
     }
 }
@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.rules;
+
+import com.github.lombrozo.testnames.Complaint;
+import com.github.lombrozo.testnames.Fact;
+import com.github.lombrozo.testnames.Flight;
+import com.github.lombrozo.testnames.Profile;
+import com.github.lombrozo.testnames.Rule;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Rule that measures the time of its origin.
+ * The time is recorded under the class name of the origin rule and added
+ * to the total time of the checked test file. The evaluation is also
+ * emitted as an event for JDK Flight Recorder.
+ *
+ * @since 1.5
+ */
+public final class RuleProfiled implements Rule {
+
+    /**
+     * Events for JDK Flight Recorder.
+     */
+    private static final Flight FLIGHT = new Flight();
+
+    /**
+     * The origin rule.
+     */
+    private final Rule origin;
+
+    /**
+     * The profile of the run.
+     */
+    private final Profile profile;
+
+    /**
+     * The checked test file.
+     */
+    private final Path file;
+
+    /**
+     * Ctor.
+     * @param origin The origin rule.
+     * @param profile The profile of the run.
+     * @param file The checked test file.
+     */
+    public RuleProfiled(final Rule origin, final Profile profile, final Path file) {
+        this.origin = origin;
+        this.profile = profile;
+        this.file = file;
+    }
+
+    @Override
+    public List<String> aliases() {
+        return this.origin.aliases();
+    }
+
+    @Override
+    public Set<Fact> facts() {
+        return this.origin.facts();
+    }
+
+    @Override
+    public Collection<Complaint> complaints() {
+        final long start = this.profile.start();
+        final Object flight = RuleProfiled.FLIGHT.evaluating();
+        final Collection<Complaint> res = this.origin.complaints();
+        final String name = this.origin.getClass().getSimpleName();
+        RuleProfiled.FLIGHT.evaluated(name, this.file, res.size(), flight);
+        this.profile.stop(name, this.file, start);
+        return res;
+    }
+}
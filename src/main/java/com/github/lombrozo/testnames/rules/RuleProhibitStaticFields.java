@@ -24,13 +24,16 @@
 package com.github.lombrozo.testnames.rules;
 
 import com.github.lombrozo.testnames.Complaint;
+import com.github.lombrozo.testnames.Fact;
 import com.github.lombrozo.testnames.Field;
 import com.github.lombrozo.testnames.Rule;
 import com.github.lombrozo.testnames.TestClass;
 import com.github.lombrozo.testnames.complaints.ComplaintLinked;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -40,6 +43,13 @@ import java.util.stream.Collectors;
  */
 public final class RuleProhibitStaticFields implements Rule {
 
+    /**
+     * Facts about test sources that the rule reads.
+     */
+    private static final Set<Fact> FACTS = Collections.unmodifiableSet(
+        EnumSet.of(Fact.FIELDS)
+    );
+
     /**
      * The test class.
      */
@@ -58,6 +68,11 @@ public final class RuleProhibitStaticFields implements Rule {
         return Collections.singletonList(RuleProhibitStaticFields.class.getSimpleName());
     }
 
+    @Override
+    public Set<Fact> facts() {
+        return RuleProhibitStaticFields.FACTS;
+    }
+
     @Override
     public Collection<Complaint> complaints() {
         final Collection<Complaint> result;
@@ -24,12 +24,14 @@
 package com.github.lombrozo.testnames.rules;
 
 import com.github.lombrozo.testnames.Complaint;
+import com.github.lombrozo.testnames.Fact;
 import com.github.lombrozo.testnames.Rule;
 import com.github.lombrozo.testnames.TestCase;
 import com.github.lombrozo.testnames.TestClass;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Suppressed rule.
@@ -45,7 +47,7 @@ public final class RuleSuppressed implements Rule {
     /**
      * The suppressed rules.
      */
-    private final Collection<String> suppressed;
+    private final Suppressions suppressed;
 
     /**
      * Ctor.
@@ -53,7 +55,7 @@ public final class RuleSuppressed implements Rule {
      * @param test The test
      */
     public RuleSuppressed(final Rule rule, final TestClass test) {
-        this(rule, test.suppressed());
+        this(rule, new Suppressions(test.suppressed()));
     }
 
     /**
@@ -61,7 +63,7 @@ public final class RuleSuppressed implements Rule {
      * @param rule The delegate
      */
     RuleSuppressed(final Rule rule) {
-        this(rule, Collections.singleton(rule.getClass().getSimpleName()));
+        this(rule, new Suppressions(Collections.singleton(rule.getClass().getSimpleName())));
     }
 
     /**
@@ -70,15 +72,15 @@ public final class RuleSuppressed implements Rule {
      * @param test Test case
      */
     RuleSuppressed(final Rule rule, final TestCase test) {
-        this(rule, test.suppressed());
+        this(rule, new Suppressions(test.suppressed()));
     }
 
     /**
-     * Ctor.
+     * Primary ctor.
      * @param rule The delegate
      * @param hidden The suppressed rules
      */
-    private RuleSuppressed(final Rule rule, final Collection<String> hidden) {
+    public RuleSuppressed(final Rule rule, final Suppressions hidden) {
         this.delegate = rule;
         this.suppressed = hidden;
     }
@@ -88,6 +90,22 @@ public final class RuleSuppressed implements Rule {
         return Collections.singletonList(this.getClass().getSimpleName());
     }
 
+    /**
+     * Facts read by the delegate.
+     * A rule suppressed here never runs, so it reads no facts.
+     * @return The facts
+     */
+    @Override
+    public Set<Fact> facts() {
+        final Set<Fact> result;
+        if (this.isSuppressed()) {
+            result = Collections.emptySet();
+        } else {
+            result = this.delegate.facts();
+        }
+        return result;
+    }
+
     @Override
     public Collection<Complaint> complaints() {
         final Collection<Complaint> result;
@@ -104,8 +122,6 @@ public final class RuleSuppressed implements Rule {
      * @return True if suppressed
      */
     private boolean isSuppressed() {
-        return this.suppressed.stream().anyMatch(
-            hidden -> this.delegate.aliases().contains(hidden)
-        );
+        return this.suppressed.covers(this.delegate);
     }
 }
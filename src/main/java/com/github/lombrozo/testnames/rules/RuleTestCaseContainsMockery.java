@@ -24,14 +24,19 @@
 package com.github.lombrozo.testnames.rules;
 
 import com.github.lombrozo.testnames.Complaint;
+import com.github.lombrozo.testnames.ComplaintSink;
+import com.github.lombrozo.testnames.Fact;
 import com.github.lombrozo.testnames.Parameters;
 import com.github.lombrozo.testnames.Rule;
 import com.github.lombrozo.testnames.TestCase;
 import com.github.lombrozo.testnames.complaints.ComplaintLinked;
 import com.github.lombrozo.testnames.javaparser.NumberOfMockitoMocks;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Mockery rule.
@@ -44,6 +49,13 @@ import java.util.List;
  */
 public final class RuleTestCaseContainsMockery implements Rule {
 
+    /**
+     * Facts about test sources that the rule reads.
+     */
+    static final Set<Fact> FACTS = Collections.unmodifiableSet(
+        EnumSet.of(Fact.METHOD_BODIES)
+    );
+
     /**
      * Test case.
      */
@@ -79,22 +91,41 @@ public final class RuleTestCaseContainsMockery implements Rule {
         return Collections.singletonList(this.getClass().getSimpleName());
     }
 
+    @Override
+    public Set<Fact> facts() {
+        return RuleTestCaseContainsMockery.FACTS;
+    }
+
     @Override
     public Collection<Complaint> complaints() {
-        final Long mocks = new NumberOfMockitoMocks(this.test).value();
-        return new RuleConditional(
-            () -> mocks > (long) this.allowed,
-            new ComplaintLinked(
-                String.format(
-                    "Method '%s' contains excessive number of mocks: %s. max allowed: %s",
-                    this.test.name(),
-                    mocks,
-                    this.allowed
-                ),
-                "Simplify mocking in test case or stick to fakes",
-                this.getClass(),
-                "mockery.md"
-            )
-        ).complaints();
+        final Collection<Complaint> result = new ArrayList<>(0);
+        RuleTestCaseContainsMockery.check(this.test, this.allowed, result::add);
+        return result;
+    }
+
+    /**
+     * Check the test case.
+     *
+     * @param test The test case
+     * @param allowed Allowed number of mocks
+     * @param sink The sink of complaints
+     */
+    static void check(final TestCase test, final int allowed, final ComplaintSink sink) {
+        final long mocks = new NumberOfMockitoMocks(test).value();
+        if (mocks > (long) allowed) {
+            sink.accept(
+                new ComplaintLinked(
+                    String.format(
+                        "Method '%s' contains excessive number of mocks: %s. max allowed: %s",
+                        test.name(),
+                        mocks,
+                        allowed
+                    ),
+                    "Simplify mocking in test case or stick to fakes",
+                    RuleTestCaseContainsMockery.class,
+                    "mockery.md"
+                )
+            );
+        }
     }
 }
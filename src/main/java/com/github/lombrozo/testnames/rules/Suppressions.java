@@ -0,0 +1,217 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.rules;
+
+import com.github.lombrozo.testnames.Rule;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Suppressed rules.
+ * Each rule of jtcop has a small integer ID in the registry below, so
+ * suppressed rules are kept in a bitmask and the check whether a rule is
+ * suppressed is a single bit test. Names that aren't in the registry
+ * are kept as they are, so third-party rules can be suppressed too.
+ *
+ * @since 1.5
+ */
+public final class Suppressions {
+
+    /**
+     * Nothing is suppressed.
+     */
+    public static final Suppressions NONE = new Suppressions(0L, Collections.emptySet());
+
+    /**
+     * Registry of rule aliases, an alias ID is its index.
+     * There are at most 64 of them, so a suppression mask fits in a long.
+     */
+    private static final List<String> REGISTRY = Collections.unmodifiableList(
+        Arrays.asList(
+            RuleEveryTestHasProductionClass.NAME,
+            RuleEveryTestHasProductionClass.SECOND_NAME,
+            RuleProhibitStaticFields.class.getSimpleName(),
+            RuleCorrectTestName.class.getSimpleName(),
+            RuleInheritanceInTests.class.getSimpleName(),
+            RuleCorrectTestCases.class.getSimpleName(),
+            RuleCorrectTestCase.class.getSimpleName(),
+            RuleNotCamelCase.NAME,
+            RuleNotContainsTestWord.NAME,
+            RuleNotSpam.class.getSimpleName(),
+            RuleNotUsesSpecialCharacters.class.getSimpleName(),
+            RulePresentTense.class.getSimpleName(),
+            RuleAssertionMessage.class.getSimpleName(),
+            LineHitterRule.class.getSimpleName(),
+            RuleTestCaseContainsMockery.class.getSimpleName(),
+            RuleOnlyTestMethods.class.getSimpleName()
+        )
+    );
+
+    /**
+     * IDs of rule aliases.
+     */
+    private static final Map<String, Integer> IDS = Suppressions.ids();
+
+    /**
+     * Suppressed rules from the registry.
+     */
+    private final long mask;
+
+    /**
+     * Suppressed names that aren't in the registry.
+     */
+    private final Set<String> others;
+
+    /**
+     * Ctor.
+     * @param names Names of suppressed rules.
+     */
+    public Suppressions(final Collection<String> names) {
+        this(Suppressions.bits(names), Suppressions.unknown(names));
+    }
+
+    /**
+     * Primary ctor.
+     * @param mask Suppressed rules from the registry.
+     * @param others Suppressed names that aren't in the registry.
+     */
+    private Suppressions(final long mask, final Set<String> others) {
+        this.mask = mask;
+        this.others = others;
+    }
+
+    /**
+     * Is the rule with the ID suppressed.
+     * @param id ID of the rule alias.
+     * @return True if it is.
+     */
+    boolean has(final int id) {
+        return (this.mask & 1L << id) != 0;
+    }
+
+    /**
+     * Is any alias of the rule suppressed.
+     * @param rule The rule.
+     * @return True if it is.
+     */
+    boolean covers(final Rule rule) {
+        boolean result = false;
+        for (final String alias : rule.aliases()) {
+            final Integer id = Suppressions.IDS.get(alias);
+            if (id == null) {
+                result = this.others.contains(alias);
+            } else {
+                result = this.has(id);
+            }
+            if (result) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Suppressed rules of both.
+     * @param other Other suppressed rules.
+     * @return Union of suppressed rules.
+     */
+    public Suppressions with(final Suppressions other) {
+        final Suppressions result;
+        if (other.others.isEmpty() && this.others.isEmpty()) {
+            result = new Suppressions(this.mask | other.mask, Collections.emptySet());
+        } else {
+            final Set<String> all = new HashSet<>(this.others);
+            all.addAll(other.others);
+            result = new Suppressions(this.mask | other.mask, all);
+        }
+        return result;
+    }
+
+    /**
+     * ID of the rule alias in the registry.
+     * @param alias The alias.
+     * @return The ID.
+     */
+    static int id(final String alias) {
+        final Integer result = Suppressions.IDS.get(alias);
+        if (result == null) {
+            throw new IllegalStateException(
+                String.format("The rule '%s' isn't in the registry", alias)
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Mask of the names from the registry.
+     * @param names Names of rules.
+     * @return The mask.
+     */
+    private static long bits(final Collection<String> names) {
+        long result = 0L;
+        for (final String name : names) {
+            final Integer id = Suppressions.IDS.get(name);
+            if (id != null) {
+                result |= 1L << id;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Names that aren't in the registry.
+     * @param names Names of rules.
+     * @return Unknown names.
+     */
+    private static Set<String> unknown(final Collection<String> names) {
+        Set<String> result = Collections.emptySet();
+        for (final String name : names) {
+            if (!Suppressions.IDS.containsKey(name)) {
+                if (result.isEmpty()) {
+                    result = new HashSet<>(1);
+                }
+                result.add(name);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * IDs of the rule aliases from the registry.
+     * @return IDs by aliases.
+     */
+    private static Map<String, Integer> ids() {
+        final Map<String, Integer> result = new HashMap<>(Suppressions.REGISTRY.size() * 2);
+        for (int idx = 0; idx < Suppressions.REGISTRY.size(); ++idx) {
+            result.put(Suppressions.REGISTRY.get(idx), idx);
+        }
+        return Collections.unmodifiableMap(result);
+    }
+}
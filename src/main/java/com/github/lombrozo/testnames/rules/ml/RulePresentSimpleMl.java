@@ -24,6 +24,7 @@
 package com.github.lombrozo.testnames.rules.ml;
 
 import com.github.lombrozo.testnames.Complaint;
+import com.github.lombrozo.testnames.Fact;
 import com.github.lombrozo.testnames.Rule;
 import com.github.lombrozo.testnames.TestCase;
 import com.github.lombrozo.testnames.complaints.ComplaintWrongTestName;
@@ -32,6 +33,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 import opennlp.tools.postag.POSTaggerME;
@@ -73,6 +75,11 @@ public final class RulePresentSimpleMl implements Rule {
         return Collections.singletonList(this.getClass().getSimpleName());
     }
 
+    @Override
+    public Set<Fact> facts() {
+        return Collections.singleton(Fact.METHOD_NAMES);
+    }
+
     @Override
     public Collection<Complaint> complaints() {
         final Tag[] parse = Tag.parse(
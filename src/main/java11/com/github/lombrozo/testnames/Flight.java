@@ -0,0 +1,284 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Events for JDK Flight Recorder.
+ * This is the Java 11 version of the class from the multi-release jar.
+ * Each measurement creates its event and calls {@link Event#begin()}, the
+ * event is the token that is passed back when the measurement ends. Then
+ * the event is checked by {@link Event#shouldCommit()}, the rest of its
+ * fields are filled only if a recording wants it, and the duration of the
+ * event is set by {@link Event#commit()}.
+ *
+ * @since 1.5
+ */
+public final class Flight {
+
+    /**
+     * Start parsing of a file.
+     * @return The started event.
+     */
+    public Object parsing() {
+        return Flight.begun(new Parsed());
+    }
+
+    /**
+     * A source or a class file is parsed.
+     * @param file The parsed file.
+     * @param token The event from {@link #parsing()}.
+     */
+    public void parsed(final Path file, final Object token) {
+        final Parsed event = (Parsed) token;
+        if (event.shouldCommit()) {
+            event.path = file.toString();
+            event.bytes = Flight.size(file);
+            event.commit();
+        }
+    }
+
+    /**
+     * Start resolution of a type.
+     * @return The started event.
+     */
+    public Object resolving() {
+        return Flight.begun(new Resolved());
+    }
+
+    /**
+     * Type of an expression is resolved.
+     * @param expression The expression, its text is recorded.
+     * @param token The event from {@link #resolving()}.
+     */
+    public void resolved(final Object expression, final Object token) {
+        final Resolved event = (Resolved) token;
+        if (event.shouldCommit()) {
+            event.expression = String.valueOf(expression);
+            event.commit();
+        }
+    }
+
+    /**
+     * Start evaluation of a rule.
+     * @return The started event.
+     */
+    public Object evaluating() {
+        return Flight.begun(new Evaluated());
+    }
+
+    /**
+     * A rule is evaluated for a test class.
+     * @param rule The name of the rule.
+     * @param file The file of the test class.
+     * @param complaints The number of complaints.
+     * @param token The event from {@link #evaluating()}.
+     */
+    public void evaluated(
+        final String rule,
+        final Path file,
+        final int complaints,
+        final Object token
+    ) {
+        final Evaluated event = (Evaluated) token;
+        if (event.shouldCommit()) {
+            event.rule = rule;
+            event.path = file.toString();
+            event.complaints = complaints;
+            event.commit();
+        }
+    }
+
+    /**
+     * Start inspection of a project.
+     * @return The started event.
+     */
+    public Object inspecting() {
+        return Flight.begun(new Finished());
+    }
+
+    /**
+     * The inspection of the project is finished.
+     * @param classes The number of checked test classes.
+     * @param complaints The number of complaints.
+     * @param threads The number of threads.
+     * @param token The event from {@link #inspecting()}.
+     */
+    public void finished(
+        final long classes,
+        final int complaints,
+        final int threads,
+        final Object token
+    ) {
+        final Finished event = (Finished) token;
+        if (event.shouldCommit()) {
+            event.classes = classes;
+            event.complaints = complaints;
+            event.threads = threads;
+            event.commit();
+        }
+    }
+
+    /**
+     * Begin the event.
+     * @param event The event.
+     * @return The same event.
+     */
+    private static Event begun(final Event event) {
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Size of the file.
+     * @param file The file.
+     * @return Size in bytes or -1 if the size is unknown.
+     */
+    private static long size(final Path file) {
+        long res;
+        try {
+            res = Files.size(file);
+        } catch (final IOException ex) {
+            res = -1L;
+        }
+        return res;
+    }
+
+    /**
+     * A file is parsed.
+     *
+     * @since 1.5
+     */
+    @Name("com.github.lombrozo.testnames.FileParsed")
+    @Label("File Parsed")
+    @Category("jtcop")
+    @Description("A source or a class file is parsed")
+    @StackTrace(false)
+    static final class Parsed extends Event {
+
+        /**
+         * The parsed file.
+         */
+        @Label("Path")
+        String path;
+
+        /**
+         * Size of the file.
+         */
+        @Label("Size")
+        @DataAmount
+        long bytes;
+    }
+
+    /**
+     * Type of an expression is resolved.
+     *
+     * @since 1.5
+     */
+    @Name("com.github.lombrozo.testnames.SymbolResolved")
+    @Label("Symbol Resolved")
+    @Category("jtcop")
+    @Description("Type of an expression is resolved")
+    @StackTrace(false)
+    static final class Resolved extends Event {
+
+        /**
+         * The expression.
+         */
+        @Label("Expression")
+        String expression;
+    }
+
+    /**
+     * A rule is evaluated.
+     *
+     * @since 1.5
+     */
+    @Name("com.github.lombrozo.testnames.RuleEvaluated")
+    @Label("Rule Evaluated")
+    @Category("jtcop")
+    @Description("A rule is evaluated for a test class")
+    @StackTrace(false)
+    static final class Evaluated extends Event {
+
+        /**
+         * The rule.
+         */
+        @Label("Rule")
+        String rule;
+
+        /**
+         * The file of the test class.
+         */
+        @Label("Test Class")
+        String path;
+
+        /**
+         * The number of complaints.
+         */
+        @Label("Complaints")
+        int complaints;
+    }
+
+    /**
+     * The inspection is finished.
+     *
+     * @since 1.5
+     */
+    @Name("com.github.lombrozo.testnames.InspectionFinished")
+    @Label("Inspection Finished")
+    @Category("jtcop")
+    @Description("Summary of the inspection of a project")
+    @StackTrace(false)
+    static final class Finished extends Event {
+
+        /**
+         * The number of checked test classes.
+         */
+        @Label("Test Classes")
+        long classes;
+
+        /**
+         * The number of complaints.
+         */
+        @Label("Complaints")
+        int complaints;
+
+        /**
+         * The number of threads.
+         */
+        @Label("Threads")
+        int threads;
+    }
+}
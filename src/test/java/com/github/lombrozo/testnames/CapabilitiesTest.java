@@ -0,0 +1,167 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+import com.github.lombrozo.testnames.rules.Suppressions;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link Capabilities}.
+ *
+ * @since 1.5
+ */
+final class CapabilitiesTest {
+
+    @Test
+    void resolvesTypesWhenAllRulesAreEnabled() {
+        MatcherAssert.assertThat(
+            "All the rules together need resolved types",
+            CapabilitiesTest.capabilities(Suppressions.NONE, true).depth(),
+            Matchers.equalTo(Fact.RESOLVED_TYPES)
+        );
+    }
+
+    @Test
+    void readsOnlyNamesWithoutRulesReadingBodies() {
+        MatcherAssert.assertThat(
+            "Only names have to be read when static fields and test case bodies aren't checked",
+            Arrays.asList(
+                CapabilitiesTest.capabilities(
+                    new Suppressions(
+                        Arrays.asList("RuleProhibitStaticFields", "RuleCorrectTestCases")
+                    ),
+                    true
+                ).depth(),
+                CapabilitiesTest.capabilities(
+                    new Suppressions(
+                        Arrays.asList(
+                            "RuleProhibitStaticFields",
+                            "RuleAssertionMessage",
+                            "LineHitterRule",
+                            "RuleTestCaseContainsMockery"
+                        )
+                    ),
+                    false
+                ).depth()
+            ),
+            Matchers.everyItem(Matchers.equalTo(Fact.METHOD_NAMES))
+        );
+    }
+
+    @Test
+    void parsesBodiesWithoutResolutionOfTypes() {
+        MatcherAssert.assertThat(
+            "Bodies have to be parsed, but types needn't be resolved, when only mocks are counted",
+            CapabilitiesTest.capabilities(
+                new Suppressions(Arrays.asList("RuleAssertionMessage", "LineHitterRule")),
+                false
+            ).facts(),
+            Matchers.allOf(
+                Matchers.hasItem(Fact.METHOD_BODIES),
+                Matchers.not(Matchers.hasItem(Fact.RESOLVED_TYPES))
+            )
+        );
+    }
+
+    @Test
+    void takesFactsFromRulesOfLaw() {
+        MatcherAssert.assertThat(
+            "Facts of a rule have to be taken from the law that builds it",
+            new Capabilities(
+                suspect -> Stream.of(
+                    new Rule() {
+                        @Override
+                        public List<String> aliases() {
+                            return Collections.singletonList("RuleNew");
+                        }
+
+                        @Override
+                        public Set<Fact> facts() {
+                            return EnumSet.of(Fact.FIELDS);
+                        }
+
+                        @Override
+                        public Collection<Complaint> complaints() {
+                            return Collections.emptyList();
+                        }
+                    }
+                )
+            ).depth(),
+            Matchers.equalTo(Fact.FIELDS)
+        );
+    }
+
+    @Test
+    void resolvesTypesForRulesWithoutFacts() {
+        MatcherAssert.assertThat(
+            "A rule that doesn't tell its facts has to get test sources with resolved types",
+            new Capabilities(
+                suspect -> Stream.of(
+                    new Rule() {
+                        @Override
+                        public List<String> aliases() {
+                            return Collections.singletonList("RuleExternal");
+                        }
+
+                        @Override
+                        public Collection<Complaint> complaints() {
+                            return Collections.emptyList();
+                        }
+                    }
+                )
+            ).depth(),
+            Matchers.equalTo(Fact.RESOLVED_TYPES)
+        );
+    }
+
+    /**
+     * Capabilities of the laws that the plugin applies.
+     * @param global Rules suppressed for the entire project.
+     * @param experimental Whether experimental rules are enabled.
+     * @return Capabilities.
+     */
+    private static Capabilities capabilities(
+        final Suppressions global,
+        final boolean experimental
+    ) {
+        final Project project = new Project.Fake();
+        final List<Function<Suspect, Stream<Rule>>> laws = new ArrayList<>(2);
+        laws.add(Cop.regular(project, new Parameters(), global, new Profile.Silent()));
+        if (experimental) {
+            laws.add(Cop.experimental(global, new Profile.Silent()));
+        }
+        return new Capabilities(Cop.composed(laws));
+    }
+}
@@ -23,9 +23,28 @@
  */
 package com.github.lombrozo.testnames;
 
+import com.github.lombrozo.testnames.javaparser.JavaParserProject;
+import com.github.lombrozo.testnames.rules.RuleEveryTestHasProductionClass;
+import com.github.lombrozo.testnames.rules.Suppressions;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 /**
  * Test for {@link Cop}.
@@ -34,6 +53,11 @@ import org.junit.jupiter.api.Test;
  */
 final class CopTest {
 
+    /**
+     * Logger.
+     */
+    private static final Logger LOG = Logger.getLogger(CopTest.class.getName());
+
     @Test
     void checksSuccessfully() {
         MatcherAssert.assertThat(
@@ -45,6 +69,86 @@ final class CopTest {
         );
     }
 
+    @Test
+    void skipsRulesExcludedForEntireProject() {
+        final Project project = new Project.Fake(
+            new ProductionClass.Fake("CustomClass"),
+            new TestClass.Fake()
+        );
+        MatcherAssert.assertThat(
+            "Cop should not run rules excluded for the entire project.",
+            new Cop(
+                project,
+                Cop.regular(
+                    project,
+                    new Parameters(),
+                    new Suppressions(
+                        Collections.singleton(RuleEveryTestHasProductionClass.NAME)
+                    ),
+                    new Profile.Silent()
+                )
+            ).inspection(),
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    void timesEachRuleInProfile() {
+        final Project project = new Project.Fake(
+            new ProductionClass.Fake("CustomClass"),
+            new TestClass.Fake()
+        );
+        final Timings timings = new Timings();
+        new Cop(
+            project,
+            Cop.regular(project, new Parameters(), Suppressions.NONE, timings)
+        ).inspection();
+        MatcherAssert.assertThat(
+            "Profile should have timings of the applied rules",
+            timings.json(),
+            Matchers.allOf(
+                Matchers.containsString("\"RuleEveryTestHasProductionClass\""),
+                Matchers.containsString("\"RuleCorrectTestName\"")
+            )
+        );
+    }
+
+    @Test
+    void appliesAllLawsInSingleTraversal() {
+        final AtomicInteger walks = new AtomicInteger(0);
+        final Project origin = new Project.Fake(
+            new ProductionClass.Fake("CustomClass"),
+            new TestClass.Fake()
+        );
+        final Project project = new Project() {
+            @Override
+            public Collection<ProductionClass> productionClasses() {
+                return origin.productionClasses();
+            }
+
+            @Override
+            public Collection<TestClass> testClasses() {
+                return new LazyCollection<>(
+                    () -> {
+                        walks.incrementAndGet();
+                        return origin.testClasses().stream();
+                    }
+                );
+            }
+        };
+        new Cop(
+            project,
+            Cop.composed(
+                Arrays.asList(Cop.regular(project, new Parameters()), Cop.experimental())
+            )
+        ).inspection();
+        MatcherAssert.assertThat(
+            "Cop should walk through test classes only once for all the laws.",
+            walks.get(),
+            Matchers.is(1)
+        );
+    }
+
     @Test
     void checksWithComplaint() {
         MatcherAssert.assertThat(
@@ -58,4 +162,141 @@ final class CopTest {
             Matchers.hasSize(1)
         );
     }
+
+    @Test
+    void keepsOrderOfComplaintsInParallel(@TempDir final Path temp) throws IOException {
+        CopTest.generate(temp, 40);
+        final Project project = new Project.Cached(
+            new JavaParserProject(temp, temp)
+        );
+        MatcherAssert.assertThat(
+            "Parallel inspection should produce the same complaints in the same order",
+            CopTest.messages(project, 4),
+            Matchers.equalTo(CopTest.messages(project, 1))
+        );
+    }
+
+    @Test
+    void checksCombinedProjectInSeveralThreads(@TempDir final Path temp) throws IOException {
+        CopTest.generate(temp, 40);
+        final Project project = new ProjectWithoutJUnitExtensions(
+            new Project.Combined(
+                new Project.Fake(),
+                new JavaParserProject(temp, temp)
+            )
+        );
+        final Set<String> workers = ConcurrentHashMap.newKeySet();
+        new Cop(
+            project,
+            suspect -> {
+                workers.add(Thread.currentThread().getName());
+                CopTest.pause();
+                return Stream.empty();
+            },
+            4
+        ).inspection();
+        MatcherAssert.assertThat(
+            "Test classes of a combined project should be checked by several threads",
+            workers.size(),
+            Matchers.greaterThan(1)
+        );
+    }
+
+    @Test
+    @Tag("slow")
+    void measuresSpeedupOfParallelInspection(@TempDir final Path temp) throws IOException {
+        CopTest.generate(temp, 400);
+        final List<String> expected = CopTest.messages(
+            new JavaParserProject(temp, temp), 1
+        );
+        for (int threads = 1; threads <= 8; threads *= 2) {
+            final long start = System.nanoTime();
+            final List<String> actual = CopTest.messages(
+                new JavaParserProject(temp, temp), threads
+            );
+            CopTest.LOG.info(
+                String.format(
+                    "Inspection of 400 test classes with %d threads took %d ms on %d cores",
+                    threads,
+                    (System.nanoTime() - start) / 1_000_000,
+                    Runtime.getRuntime().availableProcessors()
+                )
+            );
+            MatcherAssert.assertThat(
+                String.format("Inspection with %d threads should be the same", threads),
+                actual,
+                Matchers.equalTo(expected)
+            );
+        }
+    }
+
+    /**
+     * Pause the current thread for a while.
+     */
+    private static void pause() {
+        try {
+            Thread.sleep(10L);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Complaint messages of the project.
+     * @param project The project to check.
+     * @param threads The number of threads.
+     * @return Messages of complaints.
+     */
+    private static List<String> messages(final Project project, final int threads) {
+        return new Cop(project, Cop.regular(project, new Parameters()), threads)
+            .inspection()
+            .stream()
+            .map(Complaint::message)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Generate production and test classes.
+     * Every third test class doesn't have a production class, so
+     * the inspection finds complaints.
+     * @param temp The directory.
+     * @param total The number of test classes.
+     * @throws IOException If fails.
+     */
+    private static void generate(final Path temp, final int total) throws IOException {
+        for (int idx = 0; idx < total; ++idx) {
+            final String subject;
+            if (idx % 3 == 0) {
+                subject = "\"text\".isEmpty()";
+            } else {
+                subject = String.format("new Production%d().ready()", idx);
+                Files.write(
+                    temp.resolve(String.format("Production%d.java", idx)),
+                    String.format(
+                        "public class Production%d { public boolean ready() { return true; } }",
+                        idx
+                    ).getBytes(StandardCharsets.UTF_8)
+                );
+            }
+            Files.write(
+                temp.resolve(String.format("Production%dTest.java", idx)),
+                String.join(
+                    "\n",
+                    "import org.hamcrest.MatcherAssert;",
+                    "import org.junit.jupiter.api.Test;",
+                    String.format("final class Production%dTest {", idx),
+                    "    @Test",
+                    "    void checksReadiness() {",
+                    String.format("        MatcherAssert.assertThat(\"Ready\", %s);", subject),
+                    "    }",
+                    "    @Test",
+                    "    void Wrong_Name() {",
+                    "        MatcherAssert.assertThat(1, org.hamcrest.Matchers.is(1));",
+                    "    }",
+                    "}"
+                ).getBytes(StandardCharsets.UTF_8)
+            );
+        }
+    }
 }
@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test for {@link Flight}.
+ * Unit tests run on compiled classes instead of the multi-release jar,
+ * so the Java 11 version of the class is loaded from its directory.
+ * @since 1.5
+ */
+final class FlightTest {
+
+    /**
+     * Pause between the beginning and the end of an event.
+     */
+    private static final Duration PAUSE = Duration.ofMillis(10L);
+
+    @Test
+    void measuresNothingOnJavaEight() {
+        final Flight flight = new Flight();
+        final Object token = flight.inspecting();
+        flight.finished(1L, 0, 1, token);
+        MatcherAssert.assertThat(
+            "Flight of Java 8 should not create a new token for each measurement",
+            flight.parsing(),
+            Matchers.sameInstance(token)
+        );
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_11)
+    void emitsRuleEvaluationToRecording(@TempDir final Path temp) throws Exception {
+        final Path versioned = Paths.get(
+            Flight.class.getProtectionDomain().getCodeSource().getLocation().toURI()
+        ).resolve("META-INF/versions/11");
+        Assumptions.assumeTrue(
+            Files.exists(versioned),
+            "The Java 11 version of the class isn't compiled"
+        );
+        final Path dump = temp.resolve("flight.jfr");
+        try (
+            URLClassLoader loader = new URLClassLoader(
+                new URL[] {versioned.toUri().toURL()}, null
+            );
+            Recording recording = new Recording()
+        ) {
+            recording.enable("com.github.lombrozo.testnames.RuleEvaluated");
+            recording.start();
+            final Class<?> type = loader.loadClass(Flight.class.getName());
+            final Object flight = type.getConstructor().newInstance();
+            final Object token = type.getMethod("evaluating").invoke(flight);
+            Thread.sleep(FlightTest.PAUSE.toMillis());
+            type.getMethod("evaluated", String.class, Path.class, int.class, Object.class)
+                .invoke(flight, "RuleNotCamelCase", Paths.get("FlightTest.java"), 2, token);
+            recording.stop();
+            recording.dump(dump);
+        }
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(dump).stream()
+            .filter(event -> "Rule Evaluated".equals(event.getEventType().getLabel()))
+            .collect(Collectors.toList());
+        MatcherAssert.assertThat(
+            "Recording should have the event of the evaluated rule",
+            events.stream()
+                .map(
+                    event -> String.format(
+                        "%s:%d", event.getString("rule"), event.getInt("complaints")
+                    )
+                )
+                .collect(Collectors.toList()),
+            Matchers.contains("RuleNotCamelCase:2")
+        );
+        MatcherAssert.assertThat(
+            "Duration of the event should be measured from its beginning",
+            events.get(0).getDuration(),
+            Matchers.greaterThanOrEqualTo(FlightTest.PAUSE)
+        );
+    }
+}
@@ -0,0 +1,310 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+import com.github.lombrozo.testnames.javaparser.JavaParserProject;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test for {@link IncrementalCache}.
+ *
+ * @since 1.5
+ */
+final class IncrementalCacheTest {
+
+    /**
+     * The message of the recorded complaint.
+     */
+    private static final String MESSAGE = "Test name is wrong";
+
+    @Test
+    void replaysComplaintsOfUnchangedFiles(@TempDir final Path temp) throws IOException {
+        final Path test = IncrementalCacheTest.source(temp, "class FooTest {}");
+        final Path file = temp.resolve("cache.properties");
+        final Project project = new Project.Fake(new ProductionClass.Fake("Foo.java"));
+        IncrementalCacheTest.run(IncrementalCacheTest.cache(temp, project), project, test);
+        final IncrementalCache second = IncrementalCacheTest.cache(temp, project);
+        MatcherAssert.assertThat(
+            "Unchanged file should be skipped",
+            second.test(test),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            "Complaints of unchanged file should be replayed",
+            second.complaints().stream().map(Complaint::message).collect(Collectors.toList()),
+            Matchers.contains(IncrementalCacheTest.MESSAGE)
+        );
+        MatcherAssert.assertThat(
+            "Cache should be saved to the file",
+            Files.exists(file),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void checksChangedFilesAgain(@TempDir final Path temp) throws IOException {
+        final Path test = IncrementalCacheTest.source(temp, "class FooTest {}");
+        final Project project = new Project.Fake(new ProductionClass.Fake("Foo.java"));
+        IncrementalCacheTest.run(IncrementalCacheTest.cache(temp, project), project, test);
+        IncrementalCacheTest.source(temp, "class FooTest { int changed; }");
+        MatcherAssert.assertThat(
+            "Changed file should be checked again",
+            IncrementalCacheTest.cache(temp, project).test(test),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void invalidatesCacheWhenProductionClassesChange(@TempDir final Path temp)
+        throws IOException {
+        final Path test = IncrementalCacheTest.source(temp, "class FooTest {}");
+        IncrementalCacheTest.run(
+            IncrementalCacheTest.cache(
+                temp, new Project.Fake(new ProductionClass.Fake("Foo.java"))
+            ),
+            new Project.Fake(),
+            test
+        );
+        MatcherAssert.assertThat(
+            "All files should be checked again when production classes change",
+            IncrementalCacheTest.cache(
+                temp,
+                new Project.Fake(
+                    new ProductionClass.Fake("Foo.java"),
+                    new ProductionClass.Fake("Bar.java")
+                )
+            ).test(test),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void dropsComplaintWhenProductionMethodChanges(@TempDir final Path temp) throws IOException {
+        final Path main = temp.resolve("main");
+        final Path tests = temp.resolve("test");
+        final Path cache = temp.resolve("cache.properties");
+        IncrementalCacheTest.production(main, "Boolean");
+        Files.createDirectories(tests);
+        Files.write(
+            tests.resolve("FooTest.java"),
+            String.join(
+                "\n",
+                "import org.hamcrest.MatcherAssert;",
+                "import org.junit.jupiter.api.Test;",
+                "final class FooTest {",
+                "    @Test",
+                "    void checksReadiness() {",
+                "        MatcherAssert.assertThat(\"Foo should be ready\", new Foo().ready());",
+                "    }",
+                "}"
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+        IncrementalCacheTest.validate(cache, main, tests, new ConcurrentLinkedQueue<>());
+        IncrementalCacheTest.production(main, "boolean");
+        MatcherAssert.assertThat(
+            "Complaint about the message should go away when the method returns boolean",
+            IncrementalCacheTest.validate(cache, main, tests, new ConcurrentLinkedQueue<>()),
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    void checksOnlyEditedTestFile(@TempDir final Path temp) throws IOException {
+        final Path main = temp.resolve("main");
+        final Path tests = temp.resolve("test");
+        final Path cache = temp.resolve("cache.properties");
+        IncrementalCacheTest.production(main, "boolean");
+        Files.createDirectories(tests);
+        for (final String name : new String[] {"Alpha", "Beta", "Gamma"}) {
+            IncrementalCacheTest.wrong(tests, name, "");
+        }
+        final List<String> before = IncrementalCacheTest.validate(
+            cache, main, tests, new ConcurrentLinkedQueue<>()
+        );
+        final Path edited = IncrementalCacheTest.wrong(tests, "Beta", "// Edited");
+        final Collection<Path> inspected = new ConcurrentLinkedQueue<>();
+        MatcherAssert.assertThat(
+            "Complaints of unchanged files should be replayed in the order of a full run",
+            IncrementalCacheTest.validate(cache, main, tests, inspected),
+            Matchers.allOf(Matchers.not(Matchers.empty()), Matchers.equalTo(before))
+        );
+        MatcherAssert.assertThat(
+            "Only the edited test file should be inspected again",
+            inspected,
+            Matchers.contains(edited)
+        );
+    }
+
+    /**
+     * The cache of the test file in the temporary directory.
+     * Production and test sources are placed in separate directories.
+     * @param temp Temporary directory.
+     * @param project The project with production classes.
+     * @return The cache.
+     */
+    private static IncrementalCache cache(final Path temp, final Project project) {
+        return new IncrementalCache(
+            temp.resolve("cache.properties"),
+            "settings",
+            project,
+            Collections.singletonList(temp.resolve("main")),
+            Collections.singletonList(temp.resolve("test"))
+        );
+    }
+
+    /**
+     * Validate the project incrementally, as the plugin does.
+     * @param cache The file with cached results.
+     * @param main Production sources.
+     * @param tests Test sources.
+     * @param inspected Test files that are inspected.
+     * @return Complaint messages.
+     * @checkstyle ParameterNumberCheck (6 lines)
+     */
+    private static List<String> validate(
+        final Path cache,
+        final Path main,
+        final Path tests,
+        final Collection<Path> inspected
+    ) {
+        final IncrementalCache results = new IncrementalCache(
+            cache,
+            "settings",
+            new JavaParserProject(main, tests),
+            Collections.singletonList(main),
+            Collections.singletonList(tests)
+        );
+        final Project project = new JavaParserProject(main, tests, results);
+        new Cop(
+            project,
+            results.law(
+                suspect -> {
+                    inspected.add(suspect.test().path());
+                    return Cop.regular(project, new Parameters()).apply(suspect);
+                }
+            )
+        ).inspection();
+        final List<String> messages = results.complaints().stream()
+            .map(Complaint::message)
+            .collect(Collectors.toList());
+        results.save();
+        return messages;
+    }
+
+    /**
+     * Write the production class.
+     * @param main Production sources.
+     * @param type The type that the method of the class returns.
+     * @throws IOException If fails.
+     */
+    private static void production(final Path main, final String type) throws IOException {
+        Files.createDirectories(main);
+        Files.write(
+            main.resolve("Foo.java"),
+            String.format(
+                "public class Foo { public %s ready() { return true; } }", type
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    /**
+     * Write a test with a wrong name of the test case.
+     * @param tests Test sources.
+     * @param name The name of the production class.
+     * @param comment The comment at the end of the file.
+     * @return Path to the test.
+     * @throws IOException If fails.
+     */
+    private static Path wrong(final Path tests, final String name, final String comment)
+        throws IOException {
+        return Files.write(
+            tests.resolve(String.format("%sTest.java", name)),
+            String.join(
+                "\n",
+                "import org.junit.jupiter.api.Test;",
+                String.format("final class %sTest {", name),
+                "    @Test",
+                "    void test_something() {",
+                "    }",
+                "}",
+                comment
+            ).getBytes(StandardCharsets.UTF_8)
+        ).toAbsolutePath();
+    }
+
+    /**
+     * Run the check of a single test file and save results.
+     * @param cache The cache.
+     * @param project The project.
+     * @param test The test file.
+     */
+    private static void run(final IncrementalCache cache, final Project project, final Path test) {
+        if (cache.test(test)) {
+            cache.law(
+                suspect -> Stream.of(
+                    new Rule() {
+                        @Override
+                        public List<String> aliases() {
+                            return Collections.emptyList();
+                        }
+
+                        @Override
+                        public Collection<Complaint> complaints() {
+                            return Collections.singletonList(
+                                new Complaint.Text(IncrementalCacheTest.MESSAGE)
+                            );
+                        }
+                    }
+                )
+            ).apply(new Suspect(project, new TestClass.Fake(test.toString(), new TestCase.Fake())))
+                .forEach(Rule::complaints);
+        }
+        cache.save();
+    }
+
+    /**
+     * Write a test source file into the directory of test sources.
+     * @param temp Temporary directory.
+     * @param code Java code.
+     * @return Path to the file.
+     * @throws IOException If fails.
+     */
+    private static Path source(final Path temp, final String code) throws IOException {
+        final Path tests = Files.createDirectories(temp.resolve("test"));
+        return Files.write(tests.resolve("FooTest.java"), code.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -23,6 +23,11 @@
  */
 package com.github.lombrozo.testnames;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
@@ -62,4 +67,70 @@ final class ProjectTest {
             Matchers.hasSize(1)
         );
     }
+
+    @Test
+    void cachesProductionClasses() {
+        final AtomicInteger walks = new AtomicInteger(0);
+        final Project origin = new Project.Fake(new ProductionClass.Fake(), new TestClass.Fake());
+        final Project cached = new Project.Cached(
+            new Project() {
+                @Override
+                public Collection<ProductionClass> productionClasses() {
+                    walks.incrementAndGet();
+                    return origin.productionClasses();
+                }
+
+                @Override
+                public Collection<TestClass> testClasses() {
+                    return origin.testClasses();
+                }
+            }
+        );
+        MatcherAssert.assertThat(
+            "Cached project should return the same production classes on each call",
+            cached.productionClasses(),
+            Matchers.sameInstance(cached.productionClasses())
+        );
+        MatcherAssert.assertThat(
+            "Cached project should walk the original production classes only once",
+            walks.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void streamsTestClassesOfCachedProject() {
+        final AtomicInteger parsed = new AtomicInteger(0);
+        final Project cached = new Project.Cached(
+            new Project() {
+                @Override
+                public Collection<ProductionClass> productionClasses() {
+                    return Collections.emptyList();
+                }
+
+                @Override
+                public Collection<TestClass> testClasses() {
+                    return new LazyCollection<>(
+                        () -> Stream.of("FirstTest", "SecondTest").map(
+                            name -> {
+                                parsed.incrementAndGet();
+                                return new TestClass.Fake(name, new TestCase.Fake());
+                            }
+                        )
+                    );
+                }
+            }
+        );
+        final Collection<TestClass> tests = cached.testClasses();
+        MatcherAssert.assertThat(
+            "Test classes should not be parsed before the traversal",
+            parsed.get(),
+            Matchers.equalTo(0)
+        );
+        MatcherAssert.assertThat(
+            "Test classes should be streamed from the original project",
+            tests.stream().map(TestClass::name).collect(Collectors.toList()),
+            Matchers.contains("FirstTest", "SecondTest")
+        );
+    }
 }
@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames;
+
+import java.nio.file.Paths;
+import java.util.Collections;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link Timings}.
+ * @since 1.5
+ */
+final class TimingsTest {
+
+    @Test
+    void countsCallsOfPhases() {
+        final Timings timings = new Timings();
+        timings.stop("parsing", timings.start());
+        timings.stop("parsing", timings.start());
+        MatcherAssert.assertThat(
+            "Timings should count both calls of the phase",
+            timings.json(),
+            Matchers.containsString("{\"name\": \"parsing\", \"calls\": 2,")
+        );
+    }
+
+    @Test
+    void reportsOnlySlowestFiles() {
+        final Timings timings = new Timings(1);
+        final long now = timings.start();
+        timings.stop("RuleNotCamelCase", Paths.get("FastTest.java"), now);
+        timings.stop("RuleNotCamelCase", Paths.get("SlowTest.java"), now - 1_000_000_000L);
+        MatcherAssert.assertThat(
+            "Timings should report only the slowest file",
+            timings.table(),
+            Matchers.allOf(
+                Matchers.hasItem(Matchers.endsWith("SlowTest.java")),
+                Matchers.not(Matchers.hasItem(Matchers.endsWith("FastTest.java")))
+            )
+        );
+    }
+
+    @Test
+    void escapesNamesInJson() {
+        final Timings timings = new Timings();
+        timings.stop("phase", Paths.get("dir\\\"Test.java"), timings.start());
+        MatcherAssert.assertThat(
+            "Timings should escape backslashes and quotes of file names",
+            timings.json(),
+            Matchers.containsString("\"file\": \"dir\\\\\\\"Test.java\"")
+        );
+    }
+
+    @Test
+    void printsHeaderWithoutMeasurements() {
+        MatcherAssert.assertThat(
+            "Timings without measurements should have only headers",
+            new Timings(0).table(),
+            Matchers.hasSize(2)
+        );
+    }
+
+    @Test
+    void leavesNothingInSilentProfile() {
+        final Profile profile = new Profile.Silent();
+        profile.stop("parsing", profile.start());
+        MatcherAssert.assertThat(
+            "Silent profile should not measure the time",
+            Collections.singletonList(profile.start()),
+            Matchers.contains(0L)
+        );
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.bytecode;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import javassist.CtClass;
+import javassist.CtField;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.io.ResourceOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test cases for {@link BytecodeClass}.
+ *
+ * @since 1.5
+ */
+final class BytecodeClassTest {
+
+    @Test
+    void keepsProductionClassesOutOfPool(@TempDir final Path temp) throws Exception {
+        final Path klass = temp.resolve("RuleName.class");
+        Files.write(klass, new BytesOf(new ResourceOf("generated/RuleName.class")).asBytes());
+        final ScopedPool pool = new ScopedPool();
+        final int before = pool.size();
+        new BytecodeClass(klass, pool).toProductionClass();
+        MatcherAssert.assertThat(
+            "We expect that production classes don't stay in the class pool",
+            pool.size(),
+            Matchers.equalTo(before)
+        );
+    }
+
+    @Test
+    void keepsTestClassesInOwnPool(@TempDir final Path temp) throws Exception {
+        final Path klass = temp.resolve("RuleTest.class");
+        Files.write(klass, new BytesOf(new ResourceOf("generated/RuleTest.class")).asBytes());
+        final ScopedPool pool = new ScopedPool();
+        final int before = pool.size();
+        new BytecodeClass(klass, pool).toTest();
+        MatcherAssert.assertThat(
+            "We expect that test classes are kept in the pool of their project",
+            pool.size(),
+            Matchers.equalTo(before + 1)
+        );
+    }
+
+    @Test
+    void readsSimpleNameOfProductionClass(@TempDir final Path temp) throws Exception {
+        final Path klass = temp.resolve("RuleName.class");
+        Files.write(klass, new BytesOf(new ResourceOf("generated/RuleName.class")).asBytes());
+        MatcherAssert.assertThat(
+            "We expect that the name of production class is read from the constant pool",
+            new BytecodeClass(klass, new ScopedPool()).toProductionClass().name(),
+            Matchers.equalTo("RuleName")
+        );
+    }
+
+    @Test
+    void readsClassesLargerThanReusedBuffer(@TempDir final Path temp) throws Exception {
+        final CtClass large = new ScopedPool().makeClass("com.example.Large");
+        final String name = String.join("", Collections.nCopies(1_000, "a"));
+        for (int idx = 0; idx < 80; ++idx) {
+            large.addField(CtField.make(String.format("private int %s%d;", name, idx), large));
+        }
+        final Path big = temp.resolve("Large.class");
+        Files.write(big, large.toBytecode());
+        final Path small = temp.resolve("RuleName.class");
+        Files.write(small, new BytesOf(new ResourceOf("generated/RuleName.class")).asBytes());
+        MatcherAssert.assertThat(
+            "We expect that large and small class files are read by the same thread",
+            Arrays.asList(
+                new BytecodeClass(small, new ScopedPool()).toProductionClass().name(),
+                new BytecodeClass(big, new ScopedPool()).toProductionClass().name(),
+                new BytecodeClass(small, new ScopedPool()).toProductionClass().name()
+            ),
+            Matchers.contains("RuleName", "Large", "RuleName")
+        );
+    }
+
+    @Test
+    void readsSimpleNameOfNestedClass() throws Exception {
+        final CtClass nested = new ScopedPool().makeClass("com.example.Outer$Inner");
+        nested.addField(CtField.make("private long value = 1L;", nested));
+        nested.addField(CtField.make("private double ratio = 0.5;", nested));
+        MatcherAssert.assertThat(
+            "We expect that the simple name of nested class is the same as javassist one",
+            new ClassName(ByteBuffer.wrap(nested.toBytecode())).simple(),
+            Matchers.equalTo(nested.getSimpleName())
+        );
+    }
+}
@@ -114,8 +114,7 @@ final class AssertionOfHamcrestTest {
     @Test
     void ignoresJUnitAssertions() {
         final List<AssertionOfHamcrest> all = JavaTestClasses.TEST_WITH_HAMCREST_ASSERTIONS
-            .method("junitAssertions")
-            .statements()
+            .calls("junitAssertions")
             .map(AssertionOfHamcrest::new)
             .filter(AssertionOfHamcrest::isAssertion)
             .collect(Collectors.toList());
@@ -129,8 +128,7 @@ final class AssertionOfHamcrestTest {
     @Test
     void findsExplanationMessage() {
         final AssertionOfHamcrest first = JavaTestClasses.TEST_WITH_HAMCREST_ASSERTIONS
-            .method("checksTheCaseFrom357issue")
-            .statements()
+            .calls("checksTheCaseFrom357issue")
             .map(AssertionOfHamcrest::new)
             .filter(AssertionOfHamcrest::isAssertion)
             .findFirst().orElseThrow(() -> new AssertionError("No assertions found"));
@@ -144,8 +142,7 @@ final class AssertionOfHamcrestTest {
     @Test
     void findsExplanationMessageForBooleanCheck() {
         final AssertionOfHamcrest first = JavaTestClasses.TEST_WITH_HAMCREST_ASSERTIONS
-            .method("checksTheCaseFrom471issue")
-            .statements()
+            .calls("checksTheCaseFrom471issue")
             .map(AssertionOfHamcrest::new)
             .filter(AssertionOfHamcrest::isAssertion)
             .findFirst().orElseThrow(() -> new AssertionError("not found assertion"));
@@ -161,8 +158,7 @@ final class AssertionOfHamcrestTest {
     void checksCorrectlyOnLineHitters() {
         final List<AssertionOfHamcrest> assertions =
             JavaTestClasses.HAMCREST_ASSERT_TRUE_LINE_HITTER
-                .method("checksHitter")
-                .statements()
+                .calls("checksHitter")
                 .map(AssertionOfHamcrest::new)
                 .filter(AssertionOfHamcrest::isLineHitter)
                 .collect(Collectors.toList());
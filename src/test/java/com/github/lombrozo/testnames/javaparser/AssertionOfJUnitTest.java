@@ -23,6 +23,7 @@
  */
 package com.github.lombrozo.testnames.javaparser;
 
+import com.github.javaparser.StaticJavaParser;
 import com.github.lombrozo.testnames.Assertion;
 import java.util.Collection;
 import java.util.List;
@@ -208,10 +209,20 @@ final class AssertionOfJUnitTest {
     private static List<AssertionOfJUnit> assertionsFromMethod(
         final String method
     ) {
-        return JavaTestClasses.JUNIT_ASSERT_TRUE_LINE_HITTER.method(method)
-            .statements()
+        return JavaTestClasses.JUNIT_ASSERT_TRUE_LINE_HITTER.calls(method)
             .map(AssertionOfJUnit::new)
             .filter(AssertionOfJUnit::isLineHitter)
             .collect(Collectors.toList());
     }
+
+    @Test
+    void ignoresCallsThatAreNotJUnitAssertions() {
+        MatcherAssert.assertThat(
+            "Method calls absent in JUnit Assertions must not be recognized as assertions",
+            new AssertionOfJUnit(
+                StaticJavaParser.parseExpression("list.add(\"assertion\")").asMethodCallExpr()
+            ).isAssertion(),
+            Matchers.is(false)
+        );
+    }
 }
@@ -0,0 +1,177 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Tests for {@link BooleanExpression}.
+ *
+ * @since 1.5
+ */
+final class BooleanExpressionTest {
+
+    @ParameterizedTest
+    @CsvSource(
+        delimiter = '|',
+        value = {
+            "true|true",
+            "a == b|true",
+            "(a < b)|true",
+            "a && b|true",
+            "!a.isEmpty()|true",
+            "a instanceof String|true",
+            "\"text\"|false",
+            "new IsEqual<>(a)|false",
+            "Matchers.is(a)|false"
+        }
+    )
+    void recognizesObviousTypesWithoutResolution(final String expression, final boolean expected) {
+        MatcherAssert.assertThat(
+            String.format("Type of '%s' has to be recognized without resolution", expression),
+            new BooleanExpression(StaticJavaParser.parseExpression(expression)).isBoolean(),
+            Matchers.is(expected)
+        );
+    }
+
+    @Test
+    void recognizesImportedMatcherWithoutResolution(@TempDir final Path temp) {
+        final ProjectResolver resolver = new ProjectResolver(temp, temp);
+        final List<Boolean> types = BooleanExpressionTest.types(
+            resolver,
+            "import static org.hamcrest.Matchers.equalTo;",
+            "class Client {",
+            "  void check(Object obj) {",
+            "    assertThat(obj, equalTo(1));",
+            "  }",
+            "  void assertThat(Object obj, Object matcher) {}",
+            "}"
+        );
+        MatcherAssert.assertThat(
+            "Statically imported matcher has to be recognized without resolution",
+            Arrays.asList(types, resolver.resolutions()),
+            Matchers.contains(Collections.singletonList(false), 0L)
+        );
+    }
+
+    @Test
+    void resolvesLocalMethodWithNameOfMatcher(@TempDir final Path temp) {
+        MatcherAssert.assertThat(
+            "Local method with the name of a matcher has to be resolved",
+            BooleanExpressionTest.types(
+                new ProjectResolver(temp, temp),
+                "import static org.hamcrest.Matchers.is;",
+                "class Client {",
+                "  void check() {",
+                "    assertThat(\"message\", is(1));",
+                "  }",
+                "  boolean is(int value) { return value > 0; }",
+                "  void assertThat(String msg, Object obj) {}",
+                "}"
+            ),
+            Matchers.contains(true)
+        );
+    }
+
+    @Test
+    void distinguishesSameNamesInDifferentLambdas(@TempDir final Path temp) {
+        MatcherAssert.assertThat(
+            "Variables with the same name in different lambdas have to be resolved separately",
+            BooleanExpressionTest.types(
+                new ProjectResolver(temp, temp),
+                "class Client {",
+                "  void check() {",
+                "    Runnable first = () -> { boolean value = true; assertThat(\"a\", value); };",
+                "    Runnable second = () -> { Integer value = 1; assertThat(\"b\", value); };",
+                "  }",
+                "  void assertThat(String msg, Object obj) {}",
+                "}"
+            ),
+            Matchers.contains(true, false)
+        );
+    }
+
+    @Test
+    void resolvesIdenticalExpressionsOfMethodOnce(@TempDir final Path temp) {
+        final ProjectResolver resolver = new ProjectResolver(temp, temp);
+        final List<MethodCallExpr> calls = new JavaParser(
+            new ParserConfiguration().setSymbolResolver(resolver)
+        ).parse(
+            String.join(
+                "\n",
+                "class Client {",
+                "  void check(java.util.List<String> list) {",
+                "    assertThat(\"first\", list.isEmpty());",
+                "    assertThat(\"second\", list.isEmpty());",
+                "    assertThat(\"third\", list.size());",
+                "  }",
+                "  void assertThat(String msg, Object obj) {}",
+                "}"
+            )
+        ).getResult().orElseThrow(IllegalStateException::new).findAll(
+            MethodCallExpr.class,
+            call -> "assertThat".equals(call.getNameAsString())
+        );
+        calls.forEach(
+            call -> new BooleanExpression(call.getArgument(1)).isBoolean()
+        );
+        MatcherAssert.assertThat(
+            "Identical expressions of the same method have to be resolved only once",
+            resolver.resolutions(),
+            Matchers.is(2L)
+        );
+    }
+
+    /**
+     * Whether the second arguments of all `assertThat` calls are boolean.
+     * @param resolver The symbol resolver.
+     * @param lines Lines of the source code.
+     * @return Types of the arguments, true for primitive boolean.
+     */
+    private static List<Boolean> types(final ProjectResolver resolver, final String... lines) {
+        return new JavaParser(
+            new ParserConfiguration().setSymbolResolver(resolver)
+        ).parse(String.join("\n", lines))
+            .getResult()
+            .orElseThrow(IllegalStateException::new)
+            .findAll(MethodCallExpr.class, call -> "assertThat".equals(call.getNameAsString()))
+            .stream()
+            .map(call -> new BooleanExpression(call.getArgument(1)).isBoolean())
+            .collect(Collectors.toList());
+    }
+}
@@ -45,8 +45,7 @@ final class JavaParserAssertionTest {
     @Test
     void parsesJunitAssertionOnly() {
         final List<JavaParserAssertion> all = JavaTestClasses.TEST_WITH_ASSERTIONS
-            .method("junit")
-            .statements()
+            .calls("junit")
             .map(JavaParserAssertion::new)
             .filter(JavaParserAssertion::isAssertion)
             .collect(Collectors.toList());
@@ -61,8 +60,7 @@ final class JavaParserAssertionTest {
     @Test
     void parsesHamcrestAssertionOnly() {
         final List<JavaParserAssertion> all = JavaTestClasses.TEST_WITH_ASSERTIONS
-            .method("hamcrestAssertion")
-            .statements()
+            .calls("hamcrestAssertion")
             .map(JavaParserAssertion::new)
             .filter(JavaParserAssertion::isAssertion)
             .collect(Collectors.toList());
@@ -77,8 +75,7 @@ final class JavaParserAssertionTest {
     @Test
     void parsesSeveralAssertionsFromDifferentLibraries() {
         final List<JavaParserAssertion> all = JavaTestClasses.TEST_WITH_ASSERTIONS
-            .method("severalFrameworks")
-            .statements()
+            .calls("severalFrameworks")
             .map(JavaParserAssertion::new)
             .filter(JavaParserAssertion::isAssertion)
             .collect(Collectors.toList());
@@ -93,8 +90,7 @@ final class JavaParserAssertionTest {
     @Test
     void extractsMessagesFromAllAssertions() {
         final List<JavaParserAssertion> all = JavaTestClasses.TEST_WITH_ASSERTIONS
-            .method("severalFrameworks")
-            .statements()
+            .calls("severalFrameworks")
             .map(JavaParserAssertion::new)
             .filter(JavaParserAssertion::isAssertion)
             .collect(Collectors.toList());
@@ -115,8 +111,7 @@ final class JavaParserAssertionTest {
     @Test
     void parsesAssertionsWithoutMessage() {
         final List<JavaParserAssertion> all = JavaTestClasses.TEST_WITH_ASSERTIONS
-            .method("assertionsWithoutMesssages")
-            .statements()
+            .calls("assertionsWithoutMesssages")
             .map(JavaParserAssertion::new)
             .filter(JavaParserAssertion::isAssertion)
             .collect(Collectors.toList());
@@ -23,17 +23,15 @@
  */
 package com.github.lombrozo.testnames.javaparser;
 
+import com.github.lombrozo.testnames.Fact;
 import com.github.lombrozo.testnames.ProductionClass;
-import com.github.lombrozo.testnames.TestCase;
+import com.github.lombrozo.testnames.Profile;
 import com.github.lombrozo.testnames.TestClass;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Arrays;
 import java.util.Collection;
-import java.util.Set;
-import java.util.stream.Collectors;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
@@ -85,45 +83,14 @@ final class JavaParserProjectTest {
     }
 
     @Test
-    void ignoresAllRulesThatWasAddedToExclusions(@TempDir final Path temp) throws IOException {
-        Files.copy(JavaTestClasses.WRONG_NAME.inputStream(), temp.resolve("WrongName.java"));
-        final String[] exclusions = {"JTCOP.CustomRule", "FreeExclusion"};
-        final Collection<TestClass> classes = new JavaParserProject(
-            temp,
-            temp,
-            Arrays.asList(exclusions)
-        ).testClasses();
-        MatcherAssert.assertThat(
-            String.format("Project has to have exactly one test class, but was %d", classes.size()),
-            classes,
-            Matchers.hasSize(1)
-        );
-        final Set<String> clevel = classes.stream()
-            .map(TestClass::suppressed)
-            .flatMap(Collection::stream)
-            .collect(Collectors.toSet());
-        final Set<String> mlevel = classes.stream()
-            .map(TestClass::all)
-            .flatMap(Collection::stream)
-            .collect(Collectors.toList()).stream()
-            .map(TestCase::suppressed)
-            .flatMap(Collection::stream)
-            .collect(Collectors.toSet());
-        MatcherAssert.assertThat(
-            String.format(
-                "The class level suppression list is wrong. Expected: %s, but was: %s",
-                Arrays.toString(exclusions), clevel
-            ),
-            clevel,
-            Matchers.containsInAnyOrder(exclusions)
-        );
+    void scansTestClassesWhenOnlyNamesAreNeeded(@TempDir final Path tmp) throws IOException {
+        Files.copy(JavaTestClasses.SIMPLE.inputStream(), tmp.resolve("SimpleTest.java"));
         MatcherAssert.assertThat(
-            String.format(
-                "The method level suppression list is wrong. Expected: %s, but was: %s",
-                Arrays.toString(exclusions), mlevel
-            ),
-            mlevel,
-            Matchers.containsInAnyOrder(exclusions)
+            "We expect that test classes are only scanned when names of methods are enough",
+            new JavaParserProject(
+                tmp, tmp, path -> true, Fact.METHOD_NAMES
+            ).testClasses(),
+            Matchers.contains(Matchers.instanceOf(ScannedTestClass.class))
         );
     }
 
@@ -200,4 +167,33 @@ final class JavaParserProjectTest {
             Matchers.empty()
         );
     }
+
+    @Test
+    void loadsParentsThroughClassesOfRun(@TempDir final Path temp) throws IOException {
+        final String source = String.join(
+            "\n",
+            "import org.example.Absent;",
+            "import org.junit.jupiter.api.Test;",
+            "class WithParentTest implements Absent {",
+            "  @Test",
+            "  void checksSomething() {}",
+            "}"
+        );
+        final LoadedClasses classes = new LoadedClasses();
+        for (final Fact depth : new Fact[]{Fact.METHOD_NAMES, Fact.RESOLVED_TYPES}) {
+            final Path test = Files.createDirectories(temp.resolve(depth.name()));
+            Files.write(
+                test.resolve("WithParentTest.java"),
+                source.getBytes(StandardCharsets.UTF_8)
+            );
+            new JavaParserProject(test, test, path -> true, depth, new Profile.Silent(), classes)
+                .testClasses()
+                .forEach(klass -> klass.characteristics().isJUnitExtension());
+        }
+        MatcherAssert.assertThat(
+            "We expect that all projects of the run look up the same parent only once",
+            classes.misses(),
+            Matchers.equalTo(1)
+        );
+    }
 }
@@ -397,4 +397,16 @@ final class JavaParserTestCaseTest {
             new IsEqual<>(expected)
         );
     }
+
+    @Test
+    void collectsFactsOfMethodOnce() {
+        final TestCase test = new ListOf<>(
+            JavaTestClasses.TEST_WITH_ASSERTIONS.toTestClass().all()
+        ).get(0);
+        MatcherAssert.assertThat(
+            "Assertions of the same test case have to be collected only once",
+            test.assertions(),
+            Matchers.sameInstance(test.assertions())
+        );
+    }
 }
@@ -48,6 +48,29 @@ import org.junit.jupiter.api.io.TempDir;
 @SuppressWarnings("PMD.TooManyMethods")
 final class JavaParserTestClassTest {
 
+    @Test
+    void keepsTestCasesInOrderOfDeclaration() {
+        MatcherAssert.assertThat(
+            "Test cases have to be kept in the order of declaration",
+            JavaTestClasses.SIMPLE.toTestClass()
+                .all()
+                .stream()
+                .map(TestCase::name)
+                .collect(Collectors.toList()),
+            Matchers.contains("creates", "removes", "updates")
+        );
+    }
+
+    @Test
+    void collectsTestCasesOnce() {
+        final JavaParserTestClass klass = JavaTestClasses.SIMPLE.toTestClass();
+        MatcherAssert.assertThat(
+            "Test cases of the same class have to be collected only once",
+            klass.all(),
+            Matchers.sameInstance(klass.all())
+        );
+    }
+
     @Test
     void getsNames() {
         final String[] expected = {"creates", "removes", "updates"};
@@ -182,27 +205,25 @@ final class JavaParserTestClassTest {
     }
 
     @Test
-    void excludesProjectSuppressedRules() {
-        final String custom = "Custom";
-        final String project = "Project";
+    void suppressesOnlyAnnotatedRules() {
         final String[] expected = {
-            custom,
-            project,
             RuleEveryTestHasProductionClass.SECOND_NAME,
             RuleNotCamelCase.NAME,
             RuleNotContainsTestWord.NAME,
         };
         final Collection<String> all = JavaTestClasses.MANY_SUPPRESSED
-            .toTestClass(custom, project)
+            .toTestClass()
             .suppressed();
-        final String msg = String.format(
-            "We expected that test class %s will contain exactly five suppressed rules: %s, but was %s",
-            JavaTestClasses.MANY_SUPPRESSED,
-            Arrays.toString(expected),
-            all
+        MatcherAssert.assertThat(
+            String.format(
+                "We expected that test class %s will contain only annotated rules: %s, but was %s",
+                JavaTestClasses.MANY_SUPPRESSED,
+                Arrays.toString(expected),
+                all
+            ),
+            all,
+            Matchers.containsInAnyOrder(expected)
         );
-        MatcherAssert.assertThat(msg, all, Matchers.hasSize(5));
-        MatcherAssert.assertThat(msg, all, Matchers.hasItems(expected));
     }
 
     @Test
@@ -241,4 +262,23 @@ final class JavaParserTestClassTest {
             Matchers.hasSize(1)
         );
     }
+
+    @Test
+    void reusesCompilationUnitAfterTestDetection() {
+        final JavaParserTestClass klass = JavaTestClasses.SIMPLE.toTestClass();
+        MatcherAssert.assertThat(
+            "We expected that the class will be recognized as a test",
+            klass.isTest(),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            String.join(
+                " ",
+                "We expected that the test cases will be taken from the already parsed class,",
+                "since the source stream can be read only once"
+            ),
+            klass.all(),
+            Matchers.hasSize(3)
+        );
+    }
 }
@@ -23,10 +23,13 @@
  */
 package com.github.lombrozo.testnames.javaparser;
 
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.stmt.ExpressionStmt;
 import com.github.lombrozo.testnames.TestCase;
 import java.io.InputStream;
 import java.nio.file.Paths;
-import java.util.Arrays;
+import java.util.stream.Stream;
 import org.cactoos.io.ResourceOf;
 
 /**
@@ -172,28 +175,35 @@ public enum JavaTestClasses {
 
     /**
      * Creates {@link JavaParserTestClass} for current class.
-     * @param suppressed Rules excluded for entire project.
      * @return Concrete test class implementation - {@link JavaParserTestClass}.
      */
-    public JavaParserTestClass toTestClass(final String... suppressed) {
+    public JavaParserTestClass toTestClass() {
         return new JavaParserTestClass(
             Paths.get("."),
             JavaParserProject.resolver(),
-            this.inputStream(),
-            Arrays.asList(suppressed)
+            this.inputStream()
         );
     }
 
     /**
-     * Returns method by name.
+     * Returns method calls of a method by name.
+     * Only calls that are expression statements are returned, including
+     * statements of nested blocks, the same way as facts of a test case are
+     * collected.
      * @param name Method name.
-     * @return Method.
+     * @return Method calls.
      */
-    JavaParserMethod method(final String name) {
+    Stream<MethodCallExpr> calls(final String name) {
         return new JavaParserClass(this.inputStream(), JavaParserProject.resolver())
             .methods(new ByName(name))
             .findFirst()
-            .orElseThrow(() -> new MethodNotFound(name));
+            .orElseThrow(() -> new MethodNotFound(name))
+            .asMethodDeclaration()
+            .findAll(ExpressionStmt.class)
+            .stream()
+            .map(ExpressionStmt::getExpression)
+            .filter(Expression::isMethodCallExpr)
+            .map(Expression::asMethodCallExpr);
     }
 
     /**
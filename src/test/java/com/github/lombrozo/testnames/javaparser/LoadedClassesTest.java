@@ -0,0 +1,88 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link LoadedClasses}.
+ *
+ * @since 1.5
+ */
+final class LoadedClassesTest {
+
+    @Test
+    void loadsEachClassOnce() {
+        final AtomicInteger lookups = new AtomicInteger(0);
+        final LoadedClasses classes = new LoadedClasses(LoadedClassesTest.counting(lookups));
+        IntStream.range(0, 100).forEach(index -> classes.load(Runnable.class.getName()));
+        MatcherAssert.assertThat(
+            "We expect that the class loader is asked about the same class only once",
+            lookups.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void remembersClassesThatCantBeFound() {
+        final AtomicInteger lookups = new AtomicInteger(0);
+        final LoadedClasses classes = new LoadedClasses(LoadedClassesTest.counting(lookups));
+        IntStream.range(0, 100).forEach(index -> classes.load("org.example.Absent"));
+        MatcherAssert.assertThat(
+            "We expect that missing class is looked up only once and counted as a single miss",
+            new int[]{lookups.get(), classes.misses()},
+            Matchers.equalTo(new int[]{1, 1})
+        );
+    }
+
+    @Test
+    void loadsExistingClass() {
+        MatcherAssert.assertThat(
+            "We expect that existing class is loaded",
+            new LoadedClasses(Thread.currentThread().getContextClassLoader())
+                .load(Runnable.class.getName())
+                .isPresent(),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Class loader that counts lookups.
+     * @param lookups The number of lookups.
+     * @return Class loader.
+     */
+    private static ClassLoader counting(final AtomicInteger lookups) {
+        return new ClassLoader(LoadedClassesTest.class.getClassLoader()) {
+            @Override
+            public Class<?> loadClass(final String name) throws ClassNotFoundException {
+                lookups.incrementAndGet();
+                return super.loadClass(name);
+            }
+        };
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for {@link MayContainTests}.
+ *
+ * @since 1.5
+ */
+final class MayContainTestsTest {
+
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+            "class A { @Test void a() {} }",
+            "class A { @ParameterizedTest void a() {} }",
+            "class A { @org.junit.jupiter.api.Test void a() {} }",
+            "class A { @ org.junit . jupiter.api.\nTest void a() {} }",
+            "class A { @/* comment */Test void a() {} }",
+            "class A { \\u0040Test void a() {} }",
+        }
+    )
+    void acceptsFilesWithTests(final String code, @TempDir final Path temp) throws IOException {
+        MatcherAssert.assertThat(
+            String.format("We expect that the file may contain tests: %s", code),
+            new MayContainTests().test(MayContainTestsTest.source(temp, code)),
+            Matchers.is(true)
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+            "class A { void a() {} }",
+            "import org.junit.jupiter.api.Test; class A {}",
+            "class A { @Override public String toString() { return \"Test\"; } }",
+            "class A { @Tested void a() {} }",
+            "class A { @TestFactory void a() {} }",
+            "@interface Test {}",
+        }
+    )
+    void skipsFilesWithoutTests(final String code, @TempDir final Path temp) throws IOException {
+        MatcherAssert.assertThat(
+            String.format("We expect that the file can't contain tests: %s", code),
+            new MayContainTests().test(MayContainTestsTest.source(temp, code)),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void scansMappedFiles(@TempDir final Path temp) throws IOException {
+        MatcherAssert.assertThat(
+            "We expect that a memory-mapped file is scanned as well",
+            new MayContainTests(0).test(
+                MayContainTestsTest.source(temp, "class A { @Test void a() {} }")
+            ),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Write java source to a file.
+     *
+     * @param temp Temporary directory.
+     * @param code Java code.
+     * @return Path to the file.
+     * @throws IOException If fails.
+     */
+    private static Path source(final Path temp, final String code) throws IOException {
+        return Files.write(temp.resolve("A.java"), code.getBytes(StandardCharsets.UTF_8));
+    }
+}
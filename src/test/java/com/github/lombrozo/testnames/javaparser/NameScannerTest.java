@@ -0,0 +1,144 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link NameScanner}.
+ *
+ * @since 1.5
+ */
+final class NameScannerTest {
+
+    @Test
+    void ignoresBracesInCommentsAndLiterals() {
+        MatcherAssert.assertThat(
+            "We expect that braces in comments and literals don't break scanning",
+            NameScannerTest.names(
+                "class ATest {",
+                "  // }",
+                "  /* } */",
+                "  private final String text = \"}\\\"}\";",
+                "  private final char brace = '}';",
+                "  private final String block = \"\"\"",
+                "    }\"\"\";",
+                "  @Test void checks() { if (true) { } }",
+                "}"
+            ),
+            Matchers.contains("checks")
+        );
+    }
+
+    @Test
+    void skipsConstructorsAndNestedTypes() {
+        MatcherAssert.assertThat(
+            "We expect that only the methods of the top-level class are found",
+            NameScannerTest.names(
+                "public final class BTest<T> {",
+                "  private final Runnable run = () -> { call(); };",
+                "  public BTest() { this(1); }",
+                "  <V> BTest(int value) { }",
+                "  static { init(); }",
+                "  class Inner { @Test void inner() { } }",
+                "  @Test public <V> List<V> outer(@Mock List<String> list) throws Exception { }",
+                "  private static void helper() { }",
+                "}",
+                "class Other { @Test void other() { } }"
+            ),
+            Matchers.contains("outer", "helper")
+        );
+    }
+
+    @Test
+    void readsHeaderOfClass() {
+        final ScannedClass klass = new NameScanner(
+            String.join(
+                "\n",
+                "package com.example.it;",
+                "import static org.junit.Assert.assertTrue;",
+                "import org.junit.jupiter.api.extension.*;",
+                "@SuppressWarnings({\"JTCOP.RuleAllTestsHaveProductionClass\", \"unused\"})",
+                "class CTest extends com.example.Base<List<String>>",
+                "  implements AfterAllCallback, java.io.Serializable {",
+                "  @Test @SuppressWarnings(\"JTCOP.RuleNotCamelCase\") void check() { }",
+                "}"
+            )
+        ).scan();
+        MatcherAssert.assertThat(
+            "We expect that package, imports, parents and suppressions of the class are found",
+            Arrays.asList(
+                klass.pckg(),
+                klass.imports(),
+                klass.superclass(),
+                klass.implemented(),
+                klass.suppressed(),
+                klass.methods().get(0).suppressed()
+            ),
+            Matchers.hasToString(
+                String.join(
+                    ", ",
+                    "[com.example.it",
+                    "[org.junit.Assert.assertTrue",
+                    "org.junit.jupiter.api.extension]",
+                    "Base",
+                    "[AfterAllCallback",
+                    "java.io.Serializable]",
+                    "[RuleAllTestsHaveProductionClass]",
+                    "[RuleNotCamelCase]]"
+                )
+            )
+        );
+    }
+
+    @Test
+    void skipsEnumConstants() {
+        MatcherAssert.assertThat(
+            "We expect that enum constants with arguments aren't taken as methods",
+            NameScannerTest.names(
+                "enum DTest {",
+                "  FIRST(\"a\"), SECOND(\"b\") { void over() { } };",
+                "  DTest(final String value) { }",
+                "  @Test void works() { }",
+                "}"
+            ),
+            Matchers.contains("works")
+        );
+    }
+
+    /**
+     * Names of the methods found in the source.
+     * @param lines Lines of the source.
+     * @return Names of the methods.
+     */
+    private static Iterable<String> names(final String... lines) {
+        return new NameScanner(String.join("\n", lines)).scan().methods().stream()
+            .map(ScannedMethod::name)
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParseProblemException;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.resolution.SymbolResolver;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link PooledParser}.
+ *
+ * @since 1.5
+ */
+final class PooledParserTest {
+
+    @Test
+    void attachesOwnResolverInParallel() {
+        final SymbolResolver first = new ProjectResolver(Paths.get("first"), Paths.get("first"));
+        final SymbolResolver second = new ProjectResolver(Paths.get("second"), Paths.get("second"));
+        final PooledParser left = new PooledParser(first);
+        final PooledParser right = new PooledParser(second);
+        final long mixed = IntStream.range(0, 200)
+            .parallel()
+            .filter(
+                index -> {
+                    final SymbolResolver expected;
+                    final PooledParser parser;
+                    if (index % 2 == 0) {
+                        expected = first;
+                        parser = left;
+                    } else {
+                        expected = second;
+                        parser = right;
+                    }
+                    return parser
+                        .parse(PooledParserTest.source(String.format("class A%d {}", index)))
+                        .getData(Node.SYMBOL_RESOLVER_KEY) != expected;
+                }
+            )
+            .count();
+        MatcherAssert.assertThat(
+            String.format(
+                "We expect that each parsed unit has its own resolver, but %d units were mixed",
+                mixed
+            ),
+            mixed,
+            Matchers.equalTo(0L)
+        );
+    }
+
+    @Test
+    void reusesFreeParsers() {
+        final Queue<JavaParser> parsers = new ConcurrentLinkedQueue<>();
+        final PooledParser pool = new PooledParser(JavaParserProject.resolver(), parsers);
+        IntStream.range(0, 10).forEach(
+            index -> pool.parse(PooledParserTest.source(String.format("class B%d {}", index)))
+        );
+        MatcherAssert.assertThat(
+            "We expect that sequential parsing takes the same parser from the pool",
+            parsers,
+            Matchers.hasSize(1)
+        );
+    }
+
+    @Test
+    void returnsParserAfterFailure() {
+        final Queue<JavaParser> parsers = new ConcurrentLinkedQueue<>();
+        Assertions.assertThrows(
+            ParseProblemException.class,
+            () -> new PooledParser(JavaParserProject.resolver(), parsers)
+                .parse(PooledParserTest.source("class {")),
+            "We expect that parser fails on broken java source"
+        );
+        MatcherAssert.assertThat(
+            "We expect that parser is returned to the pool even if the source is broken",
+            parsers,
+            Matchers.hasSize(1)
+        );
+    }
+
+    @Test
+    void parsesJavaSeventeenSyntax() {
+        MatcherAssert.assertThat(
+            "We expect that parser understands records",
+            new PooledParser(JavaParserProject.resolver())
+                .parse(PooledParserTest.source("record Point(int x, int y) {}"))
+                .getType(0)
+                .isRecordDeclaration(),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void throwsExceptionOnBrokenSource() {
+        Assertions.assertThrows(
+            ParseProblemException.class,
+            () -> new PooledParser(JavaParserProject.resolver())
+                .parse(PooledParserTest.source("class {")),
+            "We expect that parser fails on broken java source"
+        );
+    }
+
+    /**
+     * Java source as input stream.
+     *
+     * @param code Java code.
+     * @return Input stream.
+     */
+    private static ByteArrayInputStream source(final String code) {
+        return new ByteArrayInputStream(code.getBytes(StandardCharsets.UTF_8));
+    }
+}
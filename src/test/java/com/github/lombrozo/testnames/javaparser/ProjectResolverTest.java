@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.ast.expr.ObjectCreationExpr;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link ProjectResolver}.
+ *
+ * @since 1.5
+ */
+final class ProjectResolverTest {
+
+    @Test
+    void resolvesProjectClassesFromSeveralThreads(@TempDir final Path temp) throws IOException {
+        Files.write(
+            temp.resolve("Production.java"),
+            "public class Production {}".getBytes(StandardCharsets.UTF_8)
+        );
+        final ProjectResolver resolver = new ProjectResolver(temp, temp);
+        final Set<String> types = IntStream.range(0, 16)
+            .parallel()
+            .mapToObj(
+                index -> new JavaParser(new ParserConfiguration().setSymbolResolver(resolver))
+                    .parse(
+                        String.format(
+                            "class Client%d { Object obj = new Production(); }",
+                            index
+                        )
+                    )
+                    .getResult()
+                    .orElseThrow(IllegalStateException::new)
+                    .findFirst(ObjectCreationExpr.class)
+                    .orElseThrow(IllegalStateException::new)
+            )
+            .map(expression -> resolver.calculateType(expression).describe())
+            .collect(Collectors.toSet());
+        MatcherAssert.assertThat(
+            String.format(
+                "We expect that the resolver resolves project classes in all threads, but was %s",
+                types
+            ),
+            types,
+            Matchers.contains("Production")
+        );
+        MatcherAssert.assertThat(
+            "We expect that each resolution requested from any thread is counted once",
+            resolver.resolutions(),
+            Matchers.is(16L)
+        );
+    }
+}
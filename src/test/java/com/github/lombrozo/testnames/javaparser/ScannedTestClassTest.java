@@ -0,0 +1,134 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.javaparser;
+
+import com.github.lombrozo.testnames.TestCase;
+import com.github.lombrozo.testnames.TestClass;
+import com.github.lombrozo.testnames.TestClassCharacteristics;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ScannedTestClass}.
+ *
+ * @since 1.5
+ */
+final class ScannedTestClassTest {
+
+    @Test
+    void scansSameFactsAsParser() throws IOException {
+        final List<String> different;
+        try (Stream<Path> files = Stream.concat(
+            Files.walk(Paths.get("src/test")), Files.walk(Paths.get("src/it"))
+        )) {
+            different = files
+                .filter(path -> path.toString().endsWith(".java"))
+                .filter(
+                    path -> !ScannedTestClassTest.facts(new ScannedTestClass(path)).equals(
+                        ScannedTestClassTest.facts(new JavaParserTestClass(path))
+                    )
+                )
+                .map(Path::toString)
+                .collect(Collectors.toList());
+        }
+        MatcherAssert.assertThat(
+            String.format("We expect that scanner finds the same facts as parser in %s", different),
+            different,
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    void doesNotKnowBodiesOfTests() {
+        final TestCase test = new ScannedTestClass(
+            Paths.get("src/test/resources/TestSimple.java")
+        ).all().iterator().next();
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            test::assertions,
+            "We expect that assertions of a scanned test case are unknown"
+        );
+    }
+
+    /**
+     * Facts about the class that a scanner has to know.
+     * @param klass The class.
+     * @return Facts as text.
+     */
+    private static String facts(final ScannedTestClass klass) {
+        final String res;
+        if (klass.isTest()) {
+            res = ScannedTestClassTest.facts((TestClass) klass);
+        } else {
+            res = "not a test";
+        }
+        return res;
+    }
+
+    /**
+     * Facts about the class that a scanner has to know.
+     * @param klass The class.
+     * @return Facts as text.
+     */
+    private static String facts(final JavaParserTestClass klass) {
+        final String res;
+        if (klass.isTest()) {
+            res = ScannedTestClassTest.facts((TestClass) klass);
+        } else {
+            res = "not a test";
+        }
+        return res;
+    }
+
+    /**
+     * Facts about the test class.
+     * @param klass The class.
+     * @return Facts as text.
+     */
+    private static String facts(final TestClass klass) {
+        final TestClassCharacteristics props = klass.characteristics();
+        return String.format(
+            "%s %s %s %b %b %d %d",
+            new TreeSet<>(klass.suppressed()),
+            klass.all().stream()
+                .map(test -> String.format("%s%s", test.name(), new TreeSet<>(test.suppressed())))
+                .collect(Collectors.toList()),
+            props.parent(),
+            props.isIntegrationTest(),
+            props.isJUnitExtension(),
+            props.numberOfTests(),
+            props.numberOfMethods()
+        );
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.rules;
+
+import com.github.lombrozo.testnames.Assertion;
+import com.github.lombrozo.testnames.Complaint;
+import com.github.lombrozo.testnames.Parameters;
+import com.github.lombrozo.testnames.TestCase;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.logging.Logger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link CaseChecks}.
+ *
+ * @since 1.5
+ */
+final class CaseChecksTest {
+
+    /**
+     * Logger.
+     */
+    private static final Logger LOG = Logger.getLogger(CaseChecksTest.class.getName());
+
+    @Test
+    void checksTestCaseWithAllRules() {
+        final Collection<Complaint> complaints = new ArrayList<>(0);
+        new CaseChecks(new Parameters()).check(new TestCase.Fake("Test_"), complaints::add);
+        MatcherAssert.assertThat(
+            String.format("Wrong test case has to violate five rules, but was %s", complaints),
+            complaints,
+            Matchers.hasSize(5)
+        );
+    }
+
+    @Test
+    void skipsSuppressedRules() {
+        final Collection<Complaint> complaints = new ArrayList<>(0);
+        new CaseChecks(new Parameters()).check(
+            new TestCase.Fake(
+                "CreatesName",
+                Arrays.asList(RuleNotCamelCase.NAME, "RulePresentTense", "RuleAssertionMessage")
+            ),
+            complaints::add
+        );
+        MatcherAssert.assertThat(
+            String.format("Suppressed rules must not complain, but was %s", complaints),
+            complaints,
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    void skipsAllRulesIfTestCaseIsSuppressed() {
+        final Collection<Complaint> complaints = new ArrayList<>(0);
+        new CaseChecks(new Parameters()).check(
+            new TestCase.Fake("Test_", Arrays.asList("RuleCorrectTestCase")),
+            complaints::add
+        );
+        MatcherAssert.assertThat(
+            String.format("Suppressed test case must not be checked, but was %s", complaints),
+            complaints,
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    @Tag("slow")
+    void measuresAllocationsOfPassingTestCase() {
+        final CaseChecks checks = new CaseChecks(new Parameters());
+        final TestCase test = new TestCase.Fake(
+            "checksSomethingImportant",
+            new Assertion.Fake("The message")
+        );
+        final int total = 200_000;
+        CaseChecksTest.check(checks, test, total);
+        final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long thread = Thread.currentThread().getId();
+        final long before = threads.getThreadAllocatedBytes(thread);
+        final long complaints = CaseChecksTest.check(checks, test, total);
+        final long allocated = (threads.getThreadAllocatedBytes(thread) - before) / total;
+        CaseChecksTest.LOG.info(
+            String.format("Checks allocate %d bytes per passing test method", allocated)
+        );
+        MatcherAssert.assertThat(
+            "Passing test methods must not produce complaints",
+            complaints,
+            Matchers.is(0L)
+        );
+        MatcherAssert.assertThat(
+            String.format(
+                "Checks of a passing test method allocate %d bytes, rules must not be created",
+                allocated
+            ),
+            allocated,
+            Matchers.lessThan(512L)
+        );
+    }
+
+    /**
+     * Check the test method several times.
+     * @param checks The checks.
+     * @param test The test method.
+     * @param times How many times to check.
+     * @return The number of complaints.
+     */
+    private static long check(final CaseChecks checks, final TestCase test, final int times) {
+        final Collection<Complaint> complaints = new ArrayList<>(0);
+        for (int idx = 0; idx < times; ++idx) {
+            checks.check(test, complaints::add);
+        }
+        return complaints.size();
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.rules;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test for {@link NameViolations}.
+ *
+ * @since 1.5
+ */
+final class NameViolationsTest {
+
+    /**
+     * Logger.
+     */
+    private static final Logger LOG = Logger.getLogger(NameViolationsTest.class.getName());
+
+    /**
+     * All the violations.
+     */
+    private static final int[] ALL = {
+        NameViolations.CAMEL_CASE,
+        NameViolations.TEST_WORD,
+        NameViolations.SPAM,
+        NameViolations.SPECIAL_CHARACTERS,
+        NameViolations.NOT_PRESENT_TENSE
+    };
+
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+            "", "s", "S", "checksName", "CheckName", "checkName", "testsName", "checksTest",
+            "checksTEST", "checksTeSt", "checks_name", "checks$name", "checksssName",
+            "checkssName", "aaaa", "checks", "check", "sTest", "tESt", "IntegrationTestIT",
+            "executesTO", "createsTo", "a_$", "zzzzTestTEST$_s"
+        }
+    )
+    void findsTheSameViolationsAsSeparateChecks(final String name) {
+        MatcherAssert.assertThat(
+            String.format("Violations of '%s' differ from the separate checks", name),
+            NameViolationsTest.fused(name),
+            Matchers.equalTo(NameViolationsTest.separate(name))
+        );
+    }
+
+    @Test
+    @Tag("slow")
+    void measuresFusedScanAgainstSeparateChecks() {
+        final List<String> names = NameViolationsTest.names(10_000);
+        final int rounds = 50;
+        long expected = 0L;
+        long actual = 0L;
+        for (int warm = 0; warm < 2; ++warm) {
+            final long start = System.nanoTime();
+            for (int round = 0; round < rounds; ++round) {
+                for (final String name : names) {
+                    expected += NameViolationsTest.separate(name);
+                }
+            }
+            final long separate = System.nanoTime() - start;
+            final long middle = System.nanoTime();
+            for (int round = 0; round < rounds; ++round) {
+                for (final String name : names) {
+                    actual += NameViolationsTest.fused(name);
+                }
+            }
+            NameViolationsTest.LOG.info(
+                String.format(
+                    "Scan of %d names took %d ms with separate checks and %d ms with the fused one",
+                    names.size() * rounds,
+                    separate / 1_000_000,
+                    (System.nanoTime() - middle) / 1_000_000
+                )
+            );
+        }
+        MatcherAssert.assertThat(
+            "Fused scan has to find the same violations as separate checks",
+            actual,
+            Matchers.equalTo(expected)
+        );
+    }
+
+    /**
+     * Violations found by the fused scan.
+     * @param name The test name.
+     * @return The bitmask of violations.
+     */
+    private static int fused(final String name) {
+        final NameViolations violations = new NameViolations(name);
+        int result = 0;
+        for (final int violation : NameViolationsTest.ALL) {
+            if (violations.has(violation)) {
+                result |= violation;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Violations found by separate checks, as the naming rules did before.
+     * @param name The test name.
+     * @return The bitmask of violations.
+     */
+    private static int separate(final String name) {
+        int result = 0;
+        if (NameViolationsTest.notCamelCase(name)) {
+            result |= NameViolations.CAMEL_CASE;
+        }
+        if (Stream.of("test", "TEST", "Test").anyMatch(name::contains)) {
+            result |= NameViolations.TEST_WORD;
+        }
+        if (!NameViolationsTest.notSpam(name)) {
+            result |= NameViolations.SPAM;
+        }
+        if (name.contains("$") || name.contains("_")) {
+            result |= NameViolations.SPECIAL_CHARACTERS;
+        }
+        if (!NameViolationsTest.presentTense(name)) {
+            result |= NameViolations.NOT_PRESENT_TENSE;
+        }
+        return result;
+    }
+
+    /**
+     * Is not in camel case.
+     * @param name The test name.
+     * @return The result
+     * @checkstyle ReturnCountCheck (15 lines)
+     */
+    @SuppressWarnings("PMD.OnlyOneReturn")
+    private static boolean notCamelCase(final String name) {
+        int stack = 0;
+        for (final char chr : name.toCharArray()) {
+            if (Character.isUpperCase(chr) && stack == 0) {
+                return true;
+            } else if (stack != 0) {
+                stack = 0;
+            }
+            ++stack;
+        }
+        return false;
+    }
+
+    /**
+     * Check symbols duplication in test case name.
+     * @param name The test name.
+     * @return The result
+     * @checkstyle ReturnCountCheck (20 lines)
+     */
+    @SuppressWarnings("PMD.OnlyOneReturn")
+    private static boolean notSpam(final String name) {
+        int stack = 0;
+        char prev = '!';
+        for (final char chr : name.toCharArray()) {
+            if (chr == prev) {
+                ++stack;
+            } else {
+                stack = 0;
+                prev = chr;
+            }
+            if (stack > 2) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Is test case name in present tense.
+     * @param name The test name.
+     * @return The result
+     * @checkstyle ReturnCountCheck (15 lines)
+     */
+    @SuppressWarnings("PMD.OnlyOneReturn")
+    private static boolean presentTense(final String name) {
+        char prev = '!';
+        for (final char chr : name.toCharArray()) {
+            if (Character.isUpperCase(chr)) {
+                return prev == 's';
+            } else {
+                prev = chr;
+            }
+        }
+        return prev == 's';
+    }
+
+    /**
+     * Generate test names.
+     * @param total The number of names.
+     * @return Test names.
+     */
+    private static List<String> names(final int total) {
+        final List<String> words = Arrays.asList(
+            "checks", "creates", "test", "Parses", "build", "reads", "aaaa", "_value", "Test"
+        );
+        return IntStream.range(0, total)
+            .mapToObj(
+                idx -> String.format(
+                    "%s%sName%d",
+                    words.get(idx % words.size()),
+                    words.get(idx / words.size() % words.size()).toUpperCase(Locale.ROOT),
+                    idx
+                )
+            )
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.rules;
+
+import com.github.lombrozo.testnames.ProductionClass;
+import com.github.lombrozo.testnames.Project;
+import com.github.lombrozo.testnames.TestClass;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link ProductionIndex}.
+ *
+ * @since 1.5
+ */
+final class ProductionIndexTest {
+
+    @Test
+    void walksProductionClassesOnlyOnce() {
+        final AtomicInteger walks = new AtomicInteger(0);
+        final Project.Fake origin = new Project.Fake(
+            new ProductionClass.Fake("First.java"),
+            new ProductionClass.Fake("Second$Inner.class")
+        );
+        final ProductionIndex index = new ProductionIndex(
+            new Project() {
+                @Override
+                public Collection<ProductionClass> productionClasses() {
+                    walks.incrementAndGet();
+                    return origin.productionClasses();
+                }
+
+                @Override
+                public Collection<TestClass> testClasses() {
+                    return origin.testClasses();
+                }
+            }
+        );
+        index.contains("FirstTest");
+        index.contains("SecondInnerTest");
+        index.contains("ThirdTest");
+        MatcherAssert.assertThat(
+            String.format(
+                "We expect that the index walks production classes once, but it walked %d times",
+                walks.get()
+            ),
+            walks.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void findsCleanedNames() {
+        MatcherAssert.assertThat(
+            "We expect that the index contains the test for a production class with a dollar sign",
+            new ProductionIndex(
+                new Project.Fake(new ProductionClass.Fake("Second$Inner.class"))
+            ).contains("SecondInnerTest"),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void ignoresPackageInfo() {
+        MatcherAssert.assertThat(
+            "We expect that the index ignores package-info files",
+            new ProductionIndex(
+                new Project.Fake(new ProductionClass.Fake("package-info.java"))
+            ).contains("package-infoTest"),
+            Matchers.is(false)
+        );
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2025 Volodya Lombrozo
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.lombrozo.testnames.rules;
+
+import com.github.lombrozo.testnames.Complaint;
+import com.github.lombrozo.testnames.Project;
+import com.github.lombrozo.testnames.Rule;
+import com.github.lombrozo.testnames.TestCase;
+import com.github.lombrozo.testnames.TestClass;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link Suppressions}.
+ *
+ * @since 1.5
+ */
+final class SuppressionsTest {
+
+    @Test
+    void suppressesRuleByAnyOfAliases() {
+        MatcherAssert.assertThat(
+            "Rule has to be suppressed by its second alias",
+            new Suppressions(
+                Collections.singleton(RuleEveryTestHasProductionClass.SECOND_NAME)
+            ).covers(
+                new RuleEveryTestHasProductionClass(
+                    new ProductionIndex(new Project.Fake()),
+                    new TestClass.Fake()
+                )
+            ),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void doesNotSuppressOtherRules() {
+        MatcherAssert.assertThat(
+            "Rule must not be suppressed by aliases of other rules",
+            new Suppressions(Arrays.asList(RuleNotCamelCase.NAME, "RuleNotSpam"))
+                .covers(new RulePresentTense(new TestCase.Fake())),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void suppressesRulesOutsideOfRegistry() {
+        final Rule rule = new Rule() {
+            @Override
+            public List<String> aliases() {
+                return Collections.singletonList("CustomRule");
+            }
+
+            @Override
+            public Collection<Complaint> complaints() {
+                return Collections.emptyList();
+            }
+        };
+        MatcherAssert.assertThat(
+            "Rule that isn't in the registry has to be suppressed by its name",
+            Suppressions.NONE.with(new Suppressions(Collections.singleton("CustomRule")))
+                .covers(rule),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void mergesSuppressedRules() {
+        final Suppressions merged = new Suppressions(Collections.singleton(RuleNotCamelCase.NAME))
+            .with(new Suppressions(Collections.singleton("RuleNotSpam")));
+        MatcherAssert.assertThat(
+            "Merged suppressions have to contain rules of both",
+            merged.has(Suppressions.id(RuleNotCamelCase.NAME))
+                && merged.has(Suppressions.id("RuleNotSpam")),
+            Matchers.is(true)
+        );
+    }
+}